@@ -0,0 +1,157 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore in front of
+ * the pool. Callers beyond the cap park on the semaphore, which costs a virtual thread
+ * next to nothing, instead of contending inside the pool; a caller that waits longer
+ * than {@code maxWait} gets a {@link SQLTransientConnectionException}. The permit is
+ * returned when the connection is closed. Wait time, waiters, free permits and
+ * rejections are published under {@code db.bulkhead.*} once bound to a registry.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements MeterBinder, AutoCloseable {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer waitTimer;
+
+    public BulkheadDataSource(DataSource target, int maxConcurrent, Duration maxWait) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        waitTimer = Timer.builder("db.bulkhead.wait").register(registry);
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits).register(registry);
+        Gauge.builder("db.bulkhead.waiting", permits, Semaphore::getQueueLength).register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", rejected, LongAdder::sum).register(registry);
+    }
+
+    // Replacing the pool bean hides its close(); forward it so the pool still shuts down
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", ex);
+        }
+
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                    "No database connection available within " + Duration.ofNanos(maxWaitNanos));
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                new ReleasingInvocationHandler(target));
+    }
+
+    // Modelled on TransactionAwareDataSourceProxy: identity, unwrap and getTargetConnection
+    // are answered by the proxy itself, everything else goes to the pooled connection
+    private class ReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Bulkhead proxy for target Connection [" + target + "]";
+                case "getTargetConnection":
+                    return target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            } finally {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Wraps the connection pool in a BulkheadDataSource; with virtual threads the number of
+// concurrent requests is no longer bounded by a thread pool, so it is bounded here instead
+@Configuration
+@ConditionalOnProperty(name = "db.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${db.bulkhead.max-concurrent:10}") int maxConcurrent,
+            @Value("${db.bulkhead.max-wait:5s}") Duration maxWait) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, maxConcurrent, maxWait);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                dataSource.unwrap(BulkheadDataSource.class).bindTo(registry);
+            } catch (SQLException ex) {
+                throw new IllegalStateException("DataSource is not wrapped in a bulkhead", ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.taskmanager.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Second-level and query cache for the hot {@code User} and {@code Task} rows, held in
+ * process by Caffeine through JCache. Every region is created here with an explicit size
+ * and time-to-live bound (Hibernate is told to fail on any region it would otherwise
+ * create unbounded); the TTL also caps how stale another instance's cache can be.
+ * Hit, miss, put and eviction counts are published per region as {@code cache.*} metrics.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String TASKS_REGION = "tasks";
+
+    private static final List<String> ENTITY_REGIONS = List.of(USERS_REGION, TASKS_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${entity-cache.max-size:10000}") long maxSize,
+            @Value("${entity-cache.ttl:10m}") Duration ttl) {
+        // The provider's default manager is JVM-wide; each application context gets its own
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("taskmanager:entity-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, bounded(maxSize, ttl));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, bounded(maxSize, ttl));
+        // Invalidation timestamps must outlive every cached query result, so this one never expires
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStatisticsEnabled(true));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (String name : entityCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(name));
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (the overdue scanner) can be switched off per instance or in tests
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "tasks.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
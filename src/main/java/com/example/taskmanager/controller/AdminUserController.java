@@ -0,0 +1,24 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.BatchUserResponse;
+import com.example.taskmanager.dto.UserProvisionRequest;
+import com.example.taskmanager.service.UserProvisioningService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserProvisioningService userProvisioningService;
+
+    // Items are validated individually, so one bad row does not reject the whole batch
+    @PostMapping("/batch")
+    public ResponseEntity<BatchUserResponse> provisionAll(@RequestBody List<UserProvisionRequest> requests) {
+        return ResponseEntity.ok(userProvisioningService.provisionAll(requests));
+    }
+}
@@ -3,11 +3,14 @@ package com.example.taskmanager.controller;
 import com.example.taskmanager.dto.AuthResponse;
 import com.example.taskmanager.dto.LoginRequest;
 import com.example.taskmanager.dto.UserRequest;
+import com.example.taskmanager.security.AuthenticatedUser;
+import com.example.taskmanager.security.TokenVersionService;
 import com.example.taskmanager.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenVersionService tokenVersionService;
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
@@ -26,4 +30,11 @@ public class AuthController {
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody UserRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(authService.register(request));
     }
+
+    // Invalidates every token issued to the caller, on all devices
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedUser user) {
+        tokenVersionService.revokeAll(user.id());
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.taskmanager.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Strong validators for task resources; timestamps are stored in the server's zone
+final class ETags {
+
+    // Never equals a stored version, so an update guarded by it is rejected like any stale one
+    static final long NO_MATCH = -1;
+
+    private ETags() {}
+
+    static String task(Long taskId, long version) {
+        return "\"task-" + taskId + "-" + version + "\"";
+    }
+
+    static String taskList(long version) {
+        return "\"tasks-" + version + "\"";
+    }
+
+    static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // If-Match -> expected task version; null when the header is absent or "*"
+    static Long expectedVersion(Long taskId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"task-" + taskId + "-";
+        String tag = ifMatch.trim();
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            return NO_MATCH;
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            return NO_MATCH;
+        }
+    }
+}
@@ -1,15 +1,42 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.domain.TaskPriority;
 import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.BatchTaskResponse;
+import com.example.taskmanager.dto.CountMode;
+import com.example.taskmanager.dto.CursorPageResponse;
+import com.example.taskmanager.dto.ExportFormat;
+import com.example.taskmanager.dto.ImportReport;
 import com.example.taskmanager.dto.PageResponse;
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskStatsResponse;
+import com.example.taskmanager.dto.TaskTransitionRequest;
+import com.example.taskmanager.dto.TaskTransitionResponse;
+import com.example.taskmanager.repository.TaskStamp;
+import com.example.taskmanager.service.TaskBatchService;
+import com.example.taskmanager.service.TaskExportService;
+import com.example.taskmanager.service.TaskImportService;
+import com.example.taskmanager.service.TaskListVersionService;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/users/{userId}/tasks")
@@ -17,6 +44,11 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final TaskListVersionService taskListVersionService;
+    private final TaskStatsService taskStatsService;
 
     @PostMapping
     public ResponseEntity<TaskResponse> create(
@@ -26,28 +58,143 @@ public class TaskController {
                 .body(taskService.create(request, userId));
     }
 
+    // Items are validated individually, so one bad row does not reject the whole batch
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTaskResponse> createAll(
+            @PathVariable Long userId,
+            @RequestBody List<TaskRequest> requests) {
+        return ResponseEntity.ok(taskBatchService.createAll(requests, userId));
+    }
+
+    // One set-based UPDATE for many tasks, instead of a PUT per task
+    @PostMapping("/transition")
+    public ResponseEntity<TaskTransitionResponse> transition(
+            @PathVariable Long userId,
+            @RequestBody TaskTransitionRequest request) {
+        return ResponseEntity.ok(taskBatchService.transition(request, userId));
+    }
+
+    // Bulk loads stream the raw body straight into COPY; nothing is buffered per request
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportReport> importNdjson(
+            @PathVariable Long userId,
+            InputStream body) {
+        return ResponseEntity.ok(taskImportService.importNdjson(userId, body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importCsv(
+            @PathVariable Long userId,
+            InputStream body) {
+        return ResponseEntity.ok(taskImportService.importCsv(userId, body));
+    }
+
     @GetMapping
     public ResponseEntity<PageResponse<TaskResponse>> findAll(
             @PathVariable Long userId,
             @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "false") boolean overdue,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            WebRequest webRequest) {
+        TaskFilter filter = new TaskFilter(status, priority, dueFrom, dueTo, overdue);
+        // Overdue results change as time passes without any write, so they carry no list ETag
+        if (overdue) {
+            return ResponseEntity.ok(taskService.findByOwner(userId, filter, page, size, count));
+        }
+
+        // Read before the listing: a concurrent write can only leave the ETag behind the body, never ahead
+        long version = taskListVersionService.current(userId);
+        if (webRequest.checkNotModified(ETags.taskList(version))) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(ETags.taskList(version))
+                .body(taskService.findByOwner(userId, filter, page, size, count));
+    }
+
+    // Keyset mode, selected by the presence of ?cursor (empty for the first page)
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> findAllByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        long version = taskListVersionService.current(userId);
+        if (webRequest.checkNotModified(ETags.taskList(version))) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(ETags.taskList(version))
+                .body(taskService.findByOwnerAfter(userId, status, cursor, size));
+    }
+
+    // Ranked full-text search over title and description, paged by an opaque cursor
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> search(
+            @PathVariable Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(taskService.findByOwner(userId, status, page, size));
+        return ResponseEntity.ok(taskService.search(userId, q, cursor, size));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> stats(@PathVariable Long userId) {
+        return ResponseEntity.ok(taskStatsService.stats(userId));
+    }
+
+    // Written straight to the servlet output stream row by row; nothing is collected in memory
+    @GetMapping("/export")
+    public void export(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        taskExportService.requireOwner(userId);
+
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks-%d.%s\"".formatted(userId, format.extension()));
+        taskExportService.export(userId, format, response.getOutputStream());
     }
 
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskResponse> findById(
             @PathVariable Long userId,
-            @PathVariable Long taskId) {
-        return ResponseEntity.ok(taskService.findById(taskId, userId));
+            @PathVariable Long taskId,
+            WebRequest webRequest) {
+        // A 304 costs one narrow lookup; the task is only loaded when it actually changed
+        TaskStamp stamp = taskService.findStamp(taskId, userId);
+        if (webRequest.checkNotModified(ETags.task(taskId, stamp.version()), ETags.epochMillis(stamp.updatedAt()))) {
+            return null;
+        }
+        return withValidators(taskService.findById(taskId, userId));
     }
 
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponse> update(
             @PathVariable Long userId,
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequest request) {
-        return ResponseEntity.ok(taskService.update(taskId, request, userId));
+        return withValidators(taskService.update(taskId, request, userId, ETags.expectedVersion(taskId, ifMatch)));
+    }
+
+    @PatchMapping(value = "/{taskId}", consumes = "application/merge-patch+json")
+    public ResponseEntity<TaskResponse> patch(
+            @PathVariable Long userId,
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        return withValidators(taskService.patch(taskId, patch, userId, ETags.expectedVersion(taskId, ifMatch)));
     }
 
     @DeleteMapping("/{taskId}")
@@ -57,4 +204,11 @@ public class TaskController {
         taskService.delete(taskId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    private static ResponseEntity<TaskResponse> withValidators(TaskResponse task) {
+        return ResponseEntity.ok()
+                .eTag(ETags.task(task.id(), task.version()))
+                .lastModified(ETags.epochMillis(task.updatedAt()))
+                .body(task);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.taskmanager.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Keyset position a background scanner has fully processed, in (dueDate, id) order
+@Entity
+@Table(name = "task_scan_checkpoints")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lastDueDate;
+
+    @Column(nullable = false)
+    private Long lastTaskId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static ScanCheckpoint startingAt(String name, LocalDateTime dueDate) {
+        return new ScanCheckpoint(name, dueDate, 0L, dueDate);
+    }
+
+    // Never moves backwards, e.g. when another instance already got further
+    public void advanceTo(LocalDateTime dueDate, Long taskId, LocalDateTime now) {
+        if (dueDate.isBefore(lastDueDate) || (dueDate.equals(lastDueDate) && taskId <= lastTaskId)) {
+            return;
+        }
+        this.lastDueDate = dueDate;
+        this.lastTaskId = taskId;
+        this.updatedAt = now;
+    }
+}
@@ -2,9 +2,17 @@ package com.example.taskmanager.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+// Only dirty columns go into UPDATE statements, so a status flip never rewrites the description
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 @Table(name = "tasks")
 @Getter
 @Setter
@@ -13,8 +21,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Task {
 
+    // IDENTITY would force one INSERT round trip per row; a pooled sequence lets Hibernate batch them
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -35,20 +45,36 @@ public class Task {
 
     private LocalDateTime dueDate;
 
+    // Timestamps are kept at the database's microsecond precision so keyset
+    // cursors built from in-memory entities match the stored values exactly
     @Column(nullable = false, updatable = false)
     @Builder.Default
-    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime createdAt = now();
 
     @Column(nullable = false)
     @Builder.Default
-    private LocalDateTime updatedAt = LocalDateTime.now();
+    private LocalDateTime updatedAt = now();
+
+    // Optimistic lock: entity updates check it automatically, bulk transitions bump it by hand
+    @Version
+    @Column(nullable = false)
+    @Builder.Default
+    private long version = 0;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
+    // Read-only view of the foreign key, so projections and filters never touch the users table
+    @Column(name = "owner_id", insertable = false, updatable = false)
+    private Long ownerId;
+
     @PreUpdate
     public void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now();
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
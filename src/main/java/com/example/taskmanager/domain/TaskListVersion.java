@@ -0,0 +1,18 @@
+package com.example.taskmanager.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Per-owner version of the task collection (V7); kept out of users so bumps never touch the cached user row
+@Entity
+@Table(name = "task_list_versions")
+@Getter
+@NoArgsConstructor
+public class TaskListVersion {
+
+    @Id
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private long version;
+}
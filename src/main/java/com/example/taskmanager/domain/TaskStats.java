@@ -0,0 +1,41 @@
+package com.example.taskmanager.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+// One counter per owner/status/priority cell, maintained by database triggers (V9); never written from here
+@Entity
+@Immutable
+@Table(name = "task_stats")
+@Getter
+@NoArgsConstructor
+public class TaskStats {
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+
+        @Column(name = "owner_id")
+        private Long ownerId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 20)
+        private TaskStatus status;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 20)
+        private TaskPriority priority;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+// Results are in request order; each item carries either the created task or its validation errors
+public record BatchTaskResponse(
+        int created,
+        int rejected,
+        List<Item> results
+) {
+    public record Item(int index, TaskResponse task, List<String> errors) {
+
+        public static Item created(int index, TaskResponse task) {
+            return new Item(index, task, List.of());
+        }
+
+        public static Item rejected(int index, List<String> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+// Results are in request order; each item carries either the created user or why it was skipped
+public record BatchUserResponse(
+        int created,
+        int rejected,
+        List<Item> results
+) {
+    public record Item(int index, UserResponse user, List<String> errors) {
+
+        public static Item created(int index, UserResponse user) {
+            return new Item(index, user, List.of());
+        }
+
+        public static Item rejected(int index, List<String> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.taskmanager.dto;
+
+// How a listing computes its total: an exact COUNT(*), the trigger-maintained per-status counters, or not at all
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String next
+) {
+    // Expects up to size + 1 rows; the extra row only signals that another page exists
+    public static <T, E> CursorPageResponse<T> from(
+            List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return new CursorPageResponse<>(
+                page.stream().map(mapper).toList(),
+                size,
+                hasNext ? cursorOf.apply(page.getLast()) : null
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+// Only the first rejections are listed; rejectedRows always has the full count
+public record ImportReport(
+        long importedRows,
+        long rejectedRows,
+        List<Rejection> rejections,
+        long durationMillis,
+        long rowsPerSecond
+) {
+    public record Rejection(long line, List<String> errors) {}
+}
@@ -1,15 +1,17 @@
 package com.example.taskmanager.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 import java.util.function.Function;
 
+// totalElements and totalPages are null when the client opted out of counting
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean last
 ) {
     public static <T, E> PageResponse<T> from(Page<E> page, Function<E, T> mapper) {
@@ -22,4 +24,15 @@ public record PageResponse<T>(
                 page.isLast()
         );
     }
-}
\ No newline at end of file
+
+    public static <T, E> PageResponse<T> from(Slice<E> slice, Function<E, T> mapper, Long total) {
+        return new PageResponse<>(
+                slice.getContent().stream().map(mapper).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                total == null ? null : (int) Math.ceilDiv(total, Math.max(slice.getSize(), 1)),
+                slice.isLast()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset position in the (rank DESC, id DESC) ordering of search results
+public record SearchCursor(float rank, long id) {
+
+    // Sorts after every real hit, so a seek from here returns the first page
+    public static final SearchCursor FIRST = new SearchCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+
+    // Float.toString round-trips exactly, so the seek compares against the same real value
+    public String encode() {
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new SearchCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import java.time.LocalDateTime;
+
+// Optional listing filters; null fields are left out of the generated query entirely.
+// overdue keeps open tasks (not DONE or CANCELLED) whose due date has passed.
+public record TaskFilter(
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDateTime dueFrom,
+        LocalDateTime dueTo,
+        boolean overdue
+) {
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, false);
+
+    public static TaskFilter byStatus(TaskStatus status) {
+        return new TaskFilter(status, null, null, null, false);
+    }
+
+    public boolean filtersByDueDate() {
+        return dueFrom != null || dueTo != null || overdue;
+    }
+
+    public boolean hasOnlyStatus() {
+        return priority == null && dueFrom == null && dueTo == null && !overdue;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.taskmanager.domain.TaskPriority;
 import com.example.taskmanager.domain.TaskStatus;
 import java.time.LocalDateTime;
 
+// Also used as a JPQL constructor / Spring Data DTO projection; component names mirror Task attributes
 public record TaskResponse(
         Long id,
         String title,
@@ -14,6 +15,7 @@ public record TaskResponse(
         LocalDateTime dueDate,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
+        long version,
         Long ownerId
 ) {
     public static TaskResponse from(Task task) {
@@ -26,6 +28,7 @@ public record TaskResponse(
                 task.getDueDate(),
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
+                task.getVersion(),
                 task.getOwner().getId()
         );
     }
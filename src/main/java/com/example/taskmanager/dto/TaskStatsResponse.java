@@ -0,0 +1,14 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+
+import java.util.Map;
+
+// Every status and priority is present, with zero for empty buckets
+public record TaskStatsResponse(
+        long total,
+        Map<TaskStatus, Long> byStatus,
+        Map<TaskPriority, Long> byPriority,
+        long overdue
+) {}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// Selects tasks either by id or by current status, and moves them to the given status and/or priority
+public record TaskTransitionRequest(
+        List<@NotNull Long> ids,
+        TaskStatus fromStatus,
+        TaskStatus status,
+        TaskPriority priority
+) {
+    public boolean selectsByIds() {
+        return ids != null && !ids.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+// Only tasks that actually changed are reported; already-matching or foreign tasks are skipped
+public record TaskTransitionResponse(
+        int updated,
+        List<Long> ids
+) {}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.domain.UserRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// Admin-side counterpart of UserRequest; role defaults to USER when omitted
+public record UserProvisionRequest(
+        @NotBlank(message = "Name is required")
+        String name,
+
+        @NotBlank(message = "Email is required")
+        @Email(message = "Invalid email format")
+        String email,
+
+        @NotBlank(message = "Password is required")
+        @Size(min = 8, message = "Password must be at least 8 characters")
+        String password,
+
+        UserRole role
+) {}
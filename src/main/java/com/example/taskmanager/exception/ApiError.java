@@ -5,10 +5,14 @@ import java.util.List;
 
 // Java 21 Sealed Classes — restricts which classes can extend ApiError
 public sealed interface ApiError
-        permits ApiError.NotFound, ApiError.Conflict, ApiError.Forbidden, ApiError.Validation {
+        permits ApiError.NotFound, ApiError.Conflict, ApiError.Forbidden, ApiError.BadRequest,
+                ApiError.PreconditionFailed, ApiError.ServiceUnavailable, ApiError.Validation {
 
     record NotFound(String message, LocalDateTime timestamp) implements ApiError {}
     record Conflict(String message, LocalDateTime timestamp) implements ApiError {}
     record Forbidden(String message, LocalDateTime timestamp) implements ApiError {}
+    record BadRequest(String message, LocalDateTime timestamp) implements ApiError {}
+    record PreconditionFailed(String message, LocalDateTime timestamp) implements ApiError {}
+    record ServiceUnavailable(String message, LocalDateTime timestamp) implements ApiError {}
     record Validation(List<String> errors, LocalDateTime timestamp) implements ApiError {}
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.example.taskmanager.exception;
+
+public class InvalidRequestException extends TaskManagerException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanager.exception;
+
+public class PreconditionFailedException extends TaskManagerException {
+    public PreconditionFailedException(String resource, Long id) {
+        super(resource + " " + id + " has been modified since it was last read");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanager.exception;
+
+public class ServiceUnavailableException extends TaskManagerException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
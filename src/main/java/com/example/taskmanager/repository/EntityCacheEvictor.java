@@ -0,0 +1,46 @@
+package com.example.taskmanager.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Evicts individual second-level cache entries after plain SQL writes, which Hibernate
+ * does not see. Entries are evicted right away and once more when the transaction ends,
+ * so a reader cannot re-cache the old row in between.
+ */
+@Component
+@RequiredArgsConstructor
+class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Returns the affected row count so writes can pass it straight through
+    int evicting(Class<?> entityType, Collection<?> ids, int affected) {
+        if (affected == 0) {
+            return 0;
+        }
+        evict(entityType, ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(entityType, ids);
+                }
+            });
+        }
+        return affected;
+    }
+
+    private void evict(Class<?> entityType, Collection<?> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        for (Object id : ids) {
+            cache.evict(entityType, id);
+        }
+    }
+}
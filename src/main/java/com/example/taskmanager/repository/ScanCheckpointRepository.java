@@ -0,0 +1,18 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.ScanCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ScanCheckpointRepository extends JpaRepository<ScanCheckpoint, String> {
+
+    // Held only while the mark advances, so concurrent instances never move it backwards
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ScanCheckpoint c WHERE c.name = :name")
+    Optional<ScanCheckpoint> lockByName(@Param("name") String name);
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.TaskListVersion;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TaskListVersionRepository extends Repository<TaskListVersion, Long> {
+
+    @Query("SELECT v.version FROM TaskListVersion v WHERE v.ownerId = :ownerId")
+    Optional<Long> findVersionByOwnerId(@Param("ownerId") Long ownerId);
+
+    // One upsert: INSERT ... ON CONFLICT on PostgreSQL, MERGE on H2. Concurrent bumps
+    // of the same owner queue on that owner's row only.
+    @Modifying
+    @Query("INSERT INTO TaskListVersion (ownerId, version) VALUES (:ownerId, 1) " +
+            "ON CONFLICT (ownerId) DO UPDATE SET version = version + 1")
+    int increment(@Param("ownerId") Long ownerId);
+}
@@ -1,26 +1,123 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskPriority;
 import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     Page<Task> findByOwnerId(Long ownerId, Pageable pageable);
 
     Page<Task> findByOwnerIdAndStatus(Long ownerId, TaskStatus status, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.owner.id = :ownerId AND " +
-            "(:status IS NULL OR t.status = :status)")
-    Page<Task> findByOwnerIdWithFilters(
+    String TASK_RESPONSE = "SELECT new com.example.taskmanager.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt, t.version, t.ownerId) ";
+
+    // Read paths project straight into the response record: no managed entities,
+    // dirty-checking snapshots or owner proxies are created
+    @Query(TASK_RESPONSE + "FROM Task t WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    // Just enough to answer a conditional GET without loading the task
+    @Query("SELECT new com.example.taskmanager.repository.TaskStamp(t.ownerId, t.version, t.updatedAt) FROM Task t WHERE t.id = :id")
+    Optional<TaskStamp> findStampById(@Param("id") Long id);
+
+    // Forward-only cursor for exports: rows are fetched from the server in chunks and,
+    // being projections, never accumulate in the persistence context
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_RESPONSE + "FROM Task t WHERE t.ownerId = :ownerId ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TaskResponse> streamByOwnerId(@Param("ownerId") Long ownerId);
+
+    // Row-value seek over idx_tasks_owner_created_at_id; cost is independent of how deep the page is
+    @Query(TASK_RESPONSE + "FROM Task t WHERE t.ownerId = :ownerId AND " +
+            "(t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findByOwnerIdBefore(
+            @Param("ownerId") Long ownerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query(TASK_RESPONSE + "FROM Task t WHERE t.ownerId = :ownerId AND t.status = :status AND " +
+            "(t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findByOwnerIdAndStatusBefore(
+            @Param("ownerId") Long ownerId,
+            @Param("status") TaskStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Overdue scanner: open tasks that became due after the checkpoint, across all owners,
+    // walked in (dueDate, id) order along idx_tasks_open_due_date_id
+    @Query(TASK_RESPONSE + "FROM Task t WHERE t.dueDate < :now " +
+            "AND t.status NOT IN (com.example.taskmanager.domain.TaskStatus.DONE, " +
+            "com.example.taskmanager.domain.TaskStatus.CANCELLED) " +
+            "AND (t.dueDate, t.id) > (:dueDate, :id) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskResponse> findOverdueAfter(
+            @Param("now") LocalDateTime now,
+            @Param("dueDate") LocalDateTime dueDate,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Bulk transitions lock the rows they are about to change, so the ids reported back
+    // are exactly the rows the following TaskWriteRepository.transitionByIds touches. Rows already in the target
+    // state are skipped and never written.
+    String CHANGES_TRANSITION = "(t.status <> COALESCE(:status, t.status) " +
+            "OR t.priority <> COALESCE(:priority, t.priority)) ";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.ownerId = :ownerId AND t.id IN :ids AND " +
+            CHANGES_TRANSITION + "ORDER BY t.id")
+    List<Long> lockTransitionableByIds(
             @Param("ownerId") Long ownerId,
+            @Param("ids") Collection<Long> ids,
             @Param("status") TaskStatus status,
-            Pageable pageable
+            @Param("priority") TaskPriority priority
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.ownerId = :ownerId AND t.status = :fromStatus AND " +
+            CHANGES_TRANSITION + "ORDER BY t.id")
+    List<Long> lockTransitionableByStatus(
+            @Param("ownerId") Long ownerId,
+            @Param("fromStatus") TaskStatus fromStatus,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            Limit limit
     );
 
     long countByOwnerIdAndStatus(Long ownerId, TaskStatus status);
+
+    // Open tasks past their due date: a range scan over idx_tasks_owner_open_due_date_id
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.ownerId = :ownerId AND t.dueDate < :now " +
+            "AND t.status NOT IN (com.example.taskmanager.domain.TaskStatus.DONE, " +
+            "com.example.taskmanager.domain.TaskStatus.CANCELLED)")
+    long countOverdue(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskResponse;
+
+public record TaskSearchHit(TaskResponse task, float rank) {}
@@ -0,0 +1,65 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Full-text search over the generated {@code search_vector} column and its GIN index
+ * (V10). Hits are ranked with {@code ts_rank}, title matches weighing more than
+ * description matches, and paged by a (rank, id) keyset seek. PostgreSQL only, which
+ * is why this is plain SQL rather than JPQL.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSearchRepository {
+
+    static final String SEARCH_SQL = """
+            SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date,
+                   t.created_at, t.updated_at, t.version, t.owner_id,
+                   ts_rank(t.search_vector, q) AS rank
+            FROM tasks t, websearch_to_tsquery('english', :query) q
+            WHERE t.owner_id = :ownerId
+              AND t.search_vector @@ q
+              AND (ts_rank(t.search_vector, q), t.id) < (CAST(:rank AS real), :id)
+            ORDER BY rank DESC, t.id DESC
+            LIMIT :limit
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    public List<TaskSearchHit> searchBefore(Long ownerId, String query, float rank, long id, int limit) {
+        return jdbcClient.sql(SEARCH_SQL)
+                .param("ownerId", ownerId)
+                .param("query", query)
+                .param("rank", rank)
+                .param("id", id)
+                .param("limit", limit)
+                .query(TaskSearchRepository::mapHit)
+                .list();
+    }
+
+    private static TaskSearchHit mapHit(ResultSet rs, int rowNum) throws SQLException {
+        TaskResponse task = new TaskResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                TaskStatus.valueOf(rs.getString("status")),
+                TaskPriority.valueOf(rs.getString("priority")),
+                rs.getObject("due_date", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"),
+                rs.getLong("owner_id")
+        );
+        return new TaskSearchHit(task, rs.getFloat("rank"));
+    }
+}
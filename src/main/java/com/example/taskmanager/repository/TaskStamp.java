@@ -0,0 +1,5 @@
+package com.example.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+public record TaskStamp(Long ownerId, long version, LocalDateTime updatedAt) {}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.TaskStats;
+import com.example.taskmanager.domain.TaskStatus;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskStatsRepository extends Repository<TaskStats, TaskStats.Id> {
+
+    // At most one row per status/priority pair, whatever the number of tasks
+    List<TaskStats> findByIdOwnerId(Long ownerId);
+
+    // Sums the owner's cells for one status, or all of them when status is null
+    @Query("SELECT COALESCE(SUM(s.total), 0) FROM TaskStats s " +
+            "WHERE s.id.ownerId = :ownerId AND (:status IS NULL OR s.id.status = :status)")
+    long sumTotal(@Param("ownerId") Long ownerId, @Param("status") TaskStatus status);
+}
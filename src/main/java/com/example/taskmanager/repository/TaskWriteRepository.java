@@ -0,0 +1,126 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Task writes that bypass the entity. Single-task writes are owner-scoped: the ownership
+ * check is part of the statement, so the happy path never loads the task, and zero affected
+ * rows means missing, not owned or, when an expected version is given, modified concurrently.
+ * The updated row comes back with the statement as generated keys, which the PostgreSQL
+ * driver sends as {@code UPDATE ... RETURNING}. Bulk transitions update rows the caller has
+ * already locked.
+ * <p>
+ * Plain SQL on the transaction's connection rather than JPQL: a JPQL bulk statement makes
+ * Hibernate drop the whole tasks cache region, whereas here only the written tasks are
+ * evicted (see {@link EntityCacheEvictor}). No query-cache results are derived from tasks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskWriteRepository {
+
+    private static final String UPDATE_SQL = """
+            UPDATE tasks
+            SET title = :title,
+                description = :description,
+                status = COALESCE(:status, status),
+                priority = COALESCE(:priority, priority),
+                due_date = COALESCE(:dueDate, due_date),
+                updated_at = :updatedAt,
+                version = version + 1
+            WHERE id = :id AND owner_id = :ownerId
+              AND version = COALESCE(:expectedVersion, version)
+            """;
+
+    private static final String[] RESPONSE_COLUMNS = {
+            "id", "title", "description", "status", "priority", "due_date",
+            "created_at", "updated_at", "version", "owner_id"};
+
+    private static final String DELETE_SQL = "DELETE FROM tasks WHERE id = :id AND owner_id = :ownerId";
+
+    private static final String TRANSITION_SQL = """
+            UPDATE tasks
+            SET status = COALESCE(:status, status),
+                priority = COALESCE(:priority, priority),
+                updated_at = :updatedAt,
+                version = version + 1
+            WHERE id IN (:ids)
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final EntityCacheEvictor cacheEvictor;
+
+    // Null status, priority and dueDate keep their current values; empty when no row matched
+    public Optional<TaskResponse> updateByIdAndOwnerId(Long id, Long ownerId, String title, String description,
+                                    TaskStatus status, TaskPriority priority, LocalDateTime dueDate,
+                                    LocalDateTime updatedAt, Long expectedVersion) {
+        KeyHolder updatedRow = new GeneratedKeyHolder();
+        int updated = jdbcClient.sql(UPDATE_SQL)
+                .param("id", id)
+                .param("ownerId", ownerId)
+                .param("title", title)
+                .param("description", description)
+                .param("status", status != null ? status.name() : null)
+                .param("priority", priority != null ? priority.name() : null)
+                .param("dueDate", dueDate)
+                .param("updatedAt", updatedAt)
+                .param("expectedVersion", expectedVersion)
+                .update(updatedRow, RESPONSE_COLUMNS);
+        return cacheEvictor.evicting(Task.class, List.of(id), updated) == 0
+                ? Optional.empty()
+                : Optional.of(toResponse(updatedRow.getKeys()));
+    }
+
+    public int deleteByIdAndOwnerId(Long id, Long ownerId) {
+        int deleted = jdbcClient.sql(DELETE_SQL)
+                .param("id", id)
+                .param("ownerId", ownerId)
+                .update();
+        return cacheEvictor.evicting(Task.class, List.of(id), deleted);
+    }
+
+    // Callers lock the ids first (TaskRepository.lockTransitionable*); null status or priority is kept
+    public int transitionByIds(Collection<Long> ids, TaskStatus status, TaskPriority priority,
+                               LocalDateTime updatedAt) {
+        int updated = jdbcClient.sql(TRANSITION_SQL)
+                .param("ids", ids)
+                .param("status", status != null ? status.name() : null)
+                .param("priority", priority != null ? priority.name() : null)
+                .param("updatedAt", updatedAt)
+                .update();
+        return cacheEvictor.evicting(Task.class, ids, updated);
+    }
+
+    private static TaskResponse toResponse(Map<String, Object> row) {
+        return new TaskResponse(
+                ((Number) row.get("id")).longValue(),
+                (String) row.get("title"),
+                (String) row.get("description"),
+                TaskStatus.valueOf((String) row.get("status")),
+                TaskPriority.valueOf((String) row.get("priority")),
+                localDateTime(row.get("due_date")),
+                localDateTime(row.get("created_at")),
+                localDateTime(row.get("updated_at")),
+                ((Number) row.get("version")).longValue(),
+                ((Number) row.get("owner_id")).longValue()
+        );
+    }
+
+    private static LocalDateTime localDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Single-user writes on hot paths (logout, rehash on login). Plain SQL rather than JPQL
+ * bulk updates, which would drop the whole users cache region; only the written user is
+ * evicted. Neither write changes the email, so cached login lookups stay valid.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserWriteRepository {
+
+    private final JdbcClient jdbcClient;
+    private final EntityCacheEvictor cacheEvictor;
+
+    public int incrementTokenVersion(Long id) {
+        int updated = jdbcClient.sql("UPDATE users SET token_version = token_version + 1 WHERE id = :id")
+                .param("id", id)
+                .update();
+        return cacheEvictor.evicting(User.class, List.of(id), updated);
+    }
+
+    public int updatePassword(Long id, String password) {
+        int updated = jdbcClient.sql("UPDATE users SET password = :password WHERE id = :id")
+                .param("id", id)
+                .param("password", password)
+                .update();
+        return cacheEvictor.evicting(User.class, List.of(id), updated);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanager.security;
+
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.dto.UserResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+// Principal shared by the database-backed and the stateless (token-only) authentication paths.
+// The profile is only present when the principal was loaded from the users table, so a login
+// can answer from the row it already authenticated against.
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        String password,
+        List<? extends GrantedAuthority> authorities,
+        int tokenVersion,
+        UserResponse profile
+) implements UserDetails {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())),
+                user.getTokenVersion(),
+                UserResponse.from(user)
+        );
+    }
+
+    // Built from verified claims only; the password is never known on this path
+    public static AuthenticatedUser from(VerifiedToken token) {
+        return new AuthenticatedUser(
+                token.userId(),
+                token.subject(),
+                null,
+                token.authorities(),
+                token.tokenVersion(),
+                null
+        );
+    }
+
+    public AuthenticatedUser withPassword(String password) {
+        return new AuthenticatedUser(id, email, password, authorities, tokenVersion, profile);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public List<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser[id=%d, email=%s]".formatted(id, email);
+    }
+}
@@ -6,14 +6,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +22,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final VerifiedTokenCache tokenCache;
+
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -36,16 +42,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String jwt = authHeader.substring(7);
-        final String userEmail = jwtService.extractUsername(jwt);
-
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            final String jwt = authHeader.substring(7);
+            final AuthenticatedUser principal = authenticate(jwt);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                                principal, null, principal.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
@@ -53,4 +57,39 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // Cache hits skip signature verification and the user lookup; only the
+    // in-memory revocation check runs so revoked tokens stop working promptly
+    private AuthenticatedUser authenticate(String jwt) {
+        AuthenticatedUser cached = tokenCache.get(jwt);
+        if (cached != null) {
+            if (tokenVersionService.isCurrent(cached.id(), cached.tokenVersion())) {
+                return cached;
+            }
+            tokenCache.invalidate(jwt);
+            return null;
+        }
+
+        Optional<VerifiedToken> verified = jwtService.verify(jwt);
+        if (verified.isEmpty()) {
+            return null;
+        }
+
+        AuthenticatedUser principal = resolvePrincipal(verified.get());
+        if (principal != null) {
+            tokenCache.put(jwt, principal, verified.get().expiresAt());
+        }
+        return principal;
+    }
+
+    // Stateless tokens are trusted as-is apart from the cached revocation check;
+    // legacy tokens without a user id still go through the database lookup
+    private AuthenticatedUser resolvePrincipal(VerifiedToken token) {
+        if (stateless && token.hasUserId()) {
+            return tokenVersionService.isCurrent(token.userId(), token.tokenVersion())
+                    ? AuthenticatedUser.from(token)
+                    : null;
+        }
+        return userDetailsService.loadAuthenticatedUser(token.subject());
+    }
+}
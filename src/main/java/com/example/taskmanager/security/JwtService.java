@@ -1,73 +1,110 @@
 package com.example.taskmanager.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    static final String ROLES_CLAIM = "roles";
+    static final String USER_ID_CLAIM = "uid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
+
+    // Key and parser are immutable and thread-safe, so both are built once at startup
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.expiration}") long expiration) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder()
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        var builder = Jwts.builder()
                 .claims(extraClaims)
+                .claim(ROLES_CLAIM, roles)
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
-    }
+                .expiration(new Date(System.currentTimeMillis() + expiration));
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
+        // Identity claims let the filter authenticate without a database lookup
+        if (userDetails instanceof AuthenticatedUser user) {
+            builder.claim(USER_ID_CLAIM, user.id())
+                    .claim(TOKEN_VERSION_CLAIM, user.tokenVersion());
+        }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return builder.signWith(signingKey).compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Parses and verifies the token exactly once. Signature and expiry are both
+     * checked by the parser, so an empty result means the token must be rejected.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(toVerifiedToken(parseClaims(token)));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return verify(token)
+                .map(verified -> verified.subject().equals(userDetails.getUsername()))
+                .orElse(false);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return parseClaims(token).getSubject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = io.jsonwebtoken.io.Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token is missing subject or expiration");
+        }
+
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getExpiration().toInstant(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                userId == null ? null : userId.longValue(),
+                tokenVersion == null ? 0 : tokenVersion.intValue()
+        );
     }
-}
\ No newline at end of file
+}
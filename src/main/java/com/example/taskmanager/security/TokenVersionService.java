@@ -0,0 +1,77 @@
+package com.example.taskmanager.security;
+
+import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.repository.UserWriteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Revocation check for stateless tokens. The current token version of each user is
+ * cached for {@code jwt.revocation-check-ttl}, so a revoked or deleted user is cut off
+ * within that window while a busy user costs at most one lightweight query per window.
+ * At most {@code jwt.revocation-cache.max-size} users are tracked. A zero TTL checks the
+ * database on every request.
+ */
+@Service
+public class TokenVersionService {
+
+    private static final int UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+    private final UserWriteRepository userWriteRepository;
+    private final boolean caching;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionService(
+            UserRepository userRepository,
+            UserWriteRepository userWriteRepository,
+            @Value("${jwt.revocation-check-ttl:30s}") Duration ttl,
+            @Value("${jwt.revocation-cache.max-size:100000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.userWriteRepository = userWriteRepository;
+        this.caching = !ttl.isZero();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        int current = currentVersion(userId);
+        return current != UNKNOWN_USER && tokenVersion >= current;
+    }
+
+    // Evicting before commit would let a concurrent request re-cache the old version for a full TTL
+    @Transactional
+    public void revokeAll(Long userId) {
+        userWriteRepository.incrementTokenVersion(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.invalidate(userId);
+                }
+            });
+        } else {
+            versions.invalidate(userId);
+        }
+    }
+
+    private int currentVersion(Long userId) {
+        if (!caching) {
+            return load(userId);
+        }
+        return versions.get(userId, this::load);
+    }
+
+    private int load(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER);
+    }
+}
@@ -1,30 +1,39 @@
 package com.example.taskmanager.security;
 
 import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.repository.UserWriteRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserWriteRepository userWriteRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return loadAuthenticatedUser(email);
+    }
+
+    public AuthenticatedUser loadAuthenticatedUser(String email) throws UsernameNotFoundException {
         return userRepository.findByEmail(email)
-                .map(user -> new User(
-                        user.getEmail(),
-                        user.getPassword(),
-                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-                ))
+                .map(AuthenticatedUser::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
     }
-}
\ No newline at end of file
+
+    // Called by the authentication provider after a login whose hash used an outdated cost
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser principal = (AuthenticatedUser) user;
+        userWriteRepository.updatePassword(principal.id(), newPassword);
+        return principal.withPassword(newPassword);
+    }
+}
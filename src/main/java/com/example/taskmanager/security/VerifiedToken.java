@@ -0,0 +1,28 @@
+package com.example.taskmanager.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+// Immutable result of a single signature + expiry check, safe to share across threads
+public record VerifiedToken(
+        String subject,
+        Instant expiresAt,
+        List<String> roles,
+        Long userId,
+        int tokenVersion
+) {
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    // Tokens issued before user id claims existed can only be resolved through the database
+    public boolean hasUserId() {
+        return userId != null;
+    }
+
+    public List<SimpleGrantedAuthority> authorities() {
+        return roles.stream().map(SimpleGrantedAuthority::new).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Bounded cache of already verified bearer tokens. Entries are keyed by a SHA-256 of the
+ * raw token, so tokens themselves are never held in memory, and expire at the token's own
+ * {@code exp} or after {@code jwt.cache.max-ttl}, whichever comes first. Hit, miss and
+ * eviction counters are published under the {@code jwt.tokens} cache name.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private record Entry(AuthenticatedUser principal, Instant expiresAt) {}
+
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.tokens");
+    }
+
+    public AuthenticatedUser get(String token) {
+        Entry entry = cache.getIfPresent(hash(token));
+        return entry != null ? entry.principal() : null;
+    }
+
+    public void put(String token, AuthenticatedUser principal, Instant expiresAt) {
+        cache.put(hash(token), new Entry(principal, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), entry.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
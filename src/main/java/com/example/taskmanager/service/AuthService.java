@@ -1,50 +1,44 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.domain.User;
 import com.example.taskmanager.dto.AuthResponse;
 import com.example.taskmanager.dto.LoginRequest;
 import com.example.taskmanager.dto.UserRequest;
 import com.example.taskmanager.dto.UserResponse;
-import com.example.taskmanager.exception.ResourceNotFoundException;
-import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.security.AuthenticatedUser;
 import com.example.taskmanager.security.JwtService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+/**
+ * Issues tokens for logins and registrations. The user row is read exactly once per
+ * request: a login reuses the principal the authentication provider loaded to check
+ * the password, and a registration reuses the entity it has just saved.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
-    private final UserRepository userRepository;
     private final UserService userService;
     private final JwtService jwtService;
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password())
         );
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.email());
-        String token = jwtService.generateToken(userDetails);
-
-        UserResponse userResponse = userRepository.findByEmail(request.email())
-                .map(UserResponse::from)
-                .orElseThrow(() -> new ResourceNotFoundException("User", 0L));
-
-        return new AuthResponse(token, userResponse);
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        return new AuthResponse(jwtService.generateToken(principal), principal.profile());
     }
 
     public AuthResponse register(UserRequest request) {
-        UserResponse userResponse = userService.create(request);
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userResponse.email());
-        String token = jwtService.generateToken(userDetails);
+        User user = userService.createUser(request);
 
-        return new AuthResponse(token, userResponse);
+        String token = jwtService.generateToken(AuthenticatedUser.from(user));
+        return new AuthResponse(token, UserResponse.from(user));
     }
-}
\ No newline at end of file
+}
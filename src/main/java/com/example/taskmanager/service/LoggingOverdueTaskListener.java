@@ -0,0 +1,16 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// Baseline listener; notification channels are added as further OverdueTaskListener beans
+@Slf4j
+@Component
+public class LoggingOverdueTaskListener implements OverdueTaskListener {
+
+    @Override
+    public void onOverdue(TaskResponse task) {
+        log.info("Task {} of user {} is overdue since {}", task.id(), task.ownerId(), task.dueDate());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+
+// Called once per task that became overdue; may run concurrently on virtual threads
+@FunctionalInterface
+public interface OverdueTaskListener {
+    void onOverdue(TaskResponse task);
+}
@@ -0,0 +1,159 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.ScanCheckpoint;
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.repository.ScanCheckpointRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds tasks that have become overdue since the previous run and hands each one to the
+ * {@link OverdueTaskListener}s. Candidates are read in (dueDate, id) keyset chunks after
+ * a persisted high-water mark, so a run only touches new candidates. Each chunk is
+ * processed on virtual threads, at most {@code tasks.overdue-scan.concurrency} at a
+ * time, and the mark only advances once the whole chunk is done.
+ * <p>
+ * Listeners run with no transaction or connection held, and the mark is advanced in a
+ * short transaction of its own afterwards. A chunk is handed out again if the process
+ * dies before the mark moves, or if two instances read it at the same time.
+ * <p>
+ * The at-least-once guarantee only covers tasks that become overdue after the mark,
+ * i.e. whose (dueDate, id) is still ahead of it when the scan reaches it. The mark never
+ * moves backwards, so a task is never notified if it is created or edited with a due
+ * date already behind the mark, or reopened after the scan passed its due date.
+ */
+@Slf4j
+@Service
+public class OverdueTaskScanner {
+
+    static final String CHECKPOINT = "overdue";
+
+    private final TaskRepository taskRepository;
+    private final ScanCheckpointRepository checkpointRepository;
+    private final List<OverdueTaskListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int concurrency;
+
+    private final Counter processed;
+    private final Counter failed;
+    private final Timer runs;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OverdueTaskScanner(
+            TaskRepository taskRepository,
+            ScanCheckpointRepository checkpointRepository,
+            List<OverdueTaskListener> listeners,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.overdue-scan.chunk-size:500}") int chunkSize,
+            @Value("${tasks.overdue-scan.concurrency:16}") int concurrency) {
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+
+        this.processed = meterRegistry.counter("tasks.overdue.scan.processed");
+        this.failed = meterRegistry.counter("tasks.overdue.scan.failed");
+        this.runs = meterRegistry.timer("tasks.overdue.scan.runs");
+        // Age of the oldest overdue task not yet processed; zero once a run has caught up
+        meterRegistry.gauge("tasks.overdue.scan.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.overdue-scan.interval:60s}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (RuntimeException ex) {
+            log.warn("Overdue task scan failed; it resumes from the last checkpoint on the next run", ex);
+        }
+    }
+
+    // Returns the number of tasks handed to listeners in this run
+    public int scan() {
+        LocalDateTime now = Task.now();
+        return runs.record(() -> {
+            int total = 0;
+            int handled;
+            do {
+                handled = scanChunk(now);
+                total += handled;
+            } while (handled == chunkSize);
+            return total;
+        });
+    }
+
+    private int scanChunk(LocalDateTime now) {
+        List<TaskResponse> chunk = transactionTemplate.execute(status -> readChunk(now));
+        if (chunk.isEmpty()) {
+            lagSeconds.set(0);
+            return 0;
+        }
+
+        lagSeconds.set(Duration.between(chunk.getFirst().dueDate(), now).toSeconds());
+        processAll(chunk);
+
+        TaskResponse last = chunk.getLast();
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.lockByName(CHECKPOINT)
+                .orElseThrow()
+                .advanceTo(last.dueDate(), last.id(), now));
+        return chunk.size();
+    }
+
+    private List<TaskResponse> readChunk(LocalDateTime now) {
+        ScanCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT)
+                .orElseGet(() -> checkpointRepository.save(ScanCheckpoint.startingAt(CHECKPOINT, now)));
+        return taskRepository.findOverdueAfter(
+                now, checkpoint.getLastDueDate(), checkpoint.getLastTaskId(), Limit.of(chunkSize));
+    }
+
+    // Blocks until every task of the chunk has been handled; closing the executor joins its threads
+    private void processAll(List<TaskResponse> chunk) {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TaskResponse task : chunk) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        notifyListeners(task);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    // A failing listener is counted and skipped, so one bad task cannot stall the scan
+    private void notifyListeners(TaskResponse task) {
+        try {
+            for (OverdueTaskListener listener : listeners) {
+                listener.onOverdue(task);
+            }
+            processed.increment();
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.warn("Overdue listener failed for task {}", task.id(), ex);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.dto.BatchTaskResponse;
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskTransitionRequest;
+import com.example.taskmanager.dto.TaskTransitionResponse;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskWriteRepository;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates many tasks in one request. Every item is validated up front; valid ones are
+ * inserted in chunks matching {@code hibernate.jdbc.batch_size}, and the persistence
+ * context is cleared after each chunk so memory stays flat for large imports.
+ * Bulk status/priority transitions run as one set-based UPDATE over the locked ids, evicting
+ * only those tasks from the second-level cache.
+ */
+@Service
+public class TaskBatchService {
+
+    private static final int CHUNK_SIZE = 50;
+
+    private final TaskRepository taskRepository;
+    private final TaskWriteRepository taskWriteRepository;
+    private final UserRepository userRepository;
+    private final TaskListVersionService taskListVersionService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final int maxBatchSize;
+
+    public TaskBatchService(
+            TaskRepository taskRepository,
+            TaskWriteRepository taskWriteRepository,
+            UserRepository userRepository,
+            TaskListVersionService taskListVersionService,
+            Validator validator,
+            EntityManager entityManager,
+            @Value("${tasks.batch.max-size:5000}") int maxBatchSize) {
+        this.taskRepository = taskRepository;
+        this.taskWriteRepository = taskWriteRepository;
+        this.userRepository = userRepository;
+        this.taskListVersionService = taskListVersionService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Transactional
+    public BatchTaskResponse createAll(List<TaskRequest> requests, Long ownerId) {
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidRequestException("Batch exceeds the maximum of %d tasks".formatted(maxBatchSize));
+        }
+
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", ownerId));
+
+        BatchTaskResponse.Item[] results = new BatchTaskResponse.Item[requests.size()];
+        List<Integer> chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+        int created = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BatchTaskResponse.Item.rejected(i, errors);
+                continue;
+            }
+
+            chunkIndexes.add(i);
+            chunk.add(toTask(request, owner));
+            if (chunk.size() == CHUNK_SIZE) {
+                created += flush(chunk, chunkIndexes, results);
+            }
+        }
+        created += flush(chunk, chunkIndexes, results);
+
+        if (created > 0) {
+            taskListVersionService.changed(ownerId);
+        }
+        return new BatchTaskResponse(created, requests.size() - created, List.of(results));
+    }
+
+    @Transactional
+    public TaskTransitionResponse transition(TaskTransitionRequest request, Long ownerId) {
+        List<String> errors = validator.validate(request).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+        if (!errors.isEmpty()) {
+            throw new InvalidRequestException(String.join("; ", errors));
+        }
+        if (request.status() == null && request.priority() == null) {
+            throw new InvalidRequestException("A target status or priority is required");
+        }
+        if (request.selectsByIds() == (request.fromStatus() != null)) {
+            throw new InvalidRequestException("Select tasks either by ids or by fromStatus");
+        }
+        if (request.selectsByIds() && request.ids().size() > maxBatchSize) {
+            throw new InvalidRequestException("Batch exceeds the maximum of %d tasks".formatted(maxBatchSize));
+        }
+
+        List<Long> ids = request.selectsByIds()
+                ? taskRepository.lockTransitionableByIds(ownerId, Set.copyOf(request.ids()),
+                        request.status(), request.priority())
+                : taskRepository.lockTransitionableByStatus(ownerId, request.fromStatus(),
+                        request.status(), request.priority(), Limit.of(maxBatchSize + 1));
+        if (ids.size() > maxBatchSize) {
+            throw new InvalidRequestException(
+                    "More than %d tasks match; narrow the selection".formatted(maxBatchSize));
+        }
+        if (ids.isEmpty()) {
+            return new TaskTransitionResponse(0, List.of());
+        }
+
+        int updated = taskWriteRepository.transitionByIds(ids, request.status(), request.priority(), Task.now());
+        taskListVersionService.changed(ownerId);
+        return new TaskTransitionResponse(updated, ids);
+    }
+
+    private int flush(List<Task> chunk, List<Integer> chunkIndexes, BatchTaskResponse.Item[] results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Task> saved = taskRepository.saveAll(chunk);
+        entityManager.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = BatchTaskResponse.Item.created(index, TaskResponse.from(saved.get(i)));
+        }
+        // Detach the chunk; the now-detached owner still supplies the foreign key for later chunks
+        entityManager.clear();
+
+        int count = chunk.size();
+        chunk.clear();
+        chunkIndexes.clear();
+        return count;
+    }
+
+    private List<String> validate(TaskRequest request) {
+        if (request == null) {
+            return List.of("task: must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+    }
+
+    private Task toTask(TaskRequest request, User owner) {
+        return Task.builder()
+                .title(request.title())
+                .description(request.description())
+                .status(request.status() != null ? request.status() : TaskStatus.TODO)
+                .priority(request.priority() != null ? request.priority() : TaskPriority.MEDIUM)
+                .dueDate(request.dueDate())
+                .owner(owner)
+                .build();
+    }
+}
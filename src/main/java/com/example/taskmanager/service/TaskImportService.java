@@ -0,0 +1,244 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.ImportReport;
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk-loads tasks through PostgreSQL {@code COPY ... FROM STDIN}. The request body is
+ * parsed one row at a time, each row is validated like a {@link TaskRequest}, and valid
+ * rows are re-encoded as CSV into a small buffer flushed to the COPY stream, so memory
+ * use is constant regardless of input size. The whole import is one transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final String COPY_SQL = "COPY tasks " +
+            "(title, description, status, priority, due_date, created_at, updated_at, owner_id) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final int FLUSH_BYTES = 64 * 1024;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private record ParsedRow(long line, TaskRequest request, String error) {}
+
+    @FunctionalInterface
+    private interface RowReader {
+        ParsedRow next() throws IOException;
+    }
+
+    private final DataSource dataSource;
+    private final UserRepository userRepository;
+    private final TaskListVersionService taskListVersionService;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+
+    @Transactional
+    public ImportReport importNdjson(Long ownerId, InputStream body) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        long[] lineNumber = {0};
+
+        return copy(ownerId, () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber[0]++;
+            } while (line != null && line.isBlank());
+
+            if (line == null) {
+                return null;
+            }
+            try {
+                return new ParsedRow(lineNumber[0], jsonMapper.readValue(line, TaskRequest.class), null);
+            } catch (JacksonException ex) {
+                return new ParsedRow(lineNumber[0], null, "malformed JSON: " + ex.getOriginalMessage());
+            }
+        });
+    }
+
+    @Transactional
+    public ImportReport importCsv(Long ownerId, InputStream body) {
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        Map<String, Integer> columns = readHeader(reader);
+
+        return copy(ownerId, () -> {
+            List<String> fields;
+            do {
+                fields = reader.next();
+            } while (fields != null && fields.size() == 1 && fields.getFirst().isBlank());
+
+            if (fields == null) {
+                return null;
+            }
+            try {
+                return new ParsedRow(reader.recordLine(), toRequest(fields, columns), null);
+            } catch (IllegalArgumentException ex) {
+                return new ParsedRow(reader.recordLine(), null, ex.getMessage());
+            }
+        });
+    }
+
+    private ImportReport copy(Long ownerId, RowReader rows) {
+        if (!userRepository.existsById(ownerId)) {
+            throw new ResourceNotFoundException("User", ownerId);
+        }
+
+        long started = System.nanoTime();
+        String now = Task.now().toString();
+        List<ImportReport.Rejection> rejections = new ArrayList<>();
+        long rejected = 0;
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+        try {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES + 4096);
+
+            for (ParsedRow row = rows.next(); row != null; row = rows.next()) {
+                List<String> errors = row.error() != null ? List.of(row.error()) : validate(row.request());
+                if (!errors.isEmpty()) {
+                    if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                        rejections.add(new ImportReport.Rejection(row.line(), errors));
+                    }
+                    rejected++;
+                    continue;
+                }
+
+                buffer.writeBytes(encode(row.request(), ownerId, now));
+                if (buffer.size() >= FLUSH_BYTES) {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    buffer.reset();
+                }
+            }
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            }
+            long imported = copyIn.endCopy();
+
+            taskListVersionService.changed(ownerId);
+            long elapsedNanos = System.nanoTime() - started;
+            return new ImportReport(imported, rejected, rejections,
+                    elapsedNanos / 1_000_000,
+                    imported * 1_000_000_000L / Math.max(elapsedNanos, 1));
+        } catch (SQLException ex) {
+            throw new UncategorizedSQLException("Task import", COPY_SQL, ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import body", ex);
+        } finally {
+            cancelIfActive(copyIn);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private List<String> validate(TaskRequest request) {
+        if (request == null) {
+            return List.of("task: must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+    }
+
+    private Map<String, Integer> readHeader(CsvRecordReader reader) {
+        try {
+            List<String> header = reader.next();
+            if (header == null || !header.contains("title")) {
+                throw new InvalidRequestException("CSV header must include a title column");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            return columns;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import body", ex);
+        }
+    }
+
+    private TaskRequest toRequest(List<String> fields, Map<String, Integer> columns) {
+        String status = column(fields, columns, "status");
+        String priority = column(fields, columns, "priority");
+        String dueDate = column(fields, columns, "dueDate");
+        try {
+            return new TaskRequest(
+                    column(fields, columns, "title"),
+                    column(fields, columns, "description"),
+                    status == null ? null : TaskStatus.valueOf(status),
+                    priority == null ? null : TaskPriority.valueOf(priority),
+                    dueDate == null ? null : LocalDateTime.parse(dueDate)
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("invalid value: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    // COPY csv: unquoted empty field is NULL, quoted strings keep embedded commas/newlines
+    private static byte[] encode(TaskRequest request, Long ownerId, String now) {
+        StringBuilder row = new StringBuilder(128);
+        quote(row, request.title()).append(',');
+        quote(row, request.description()).append(',');
+        row.append(request.status() != null ? request.status() : TaskStatus.TODO).append(',');
+        row.append(request.priority() != null ? request.priority() : TaskPriority.MEDIUM).append(',');
+        if (request.dueDate() != null) row.append(request.dueDate());
+        row.append(',').append(now).append(',').append(now).append(',').append(ownerId).append('\n');
+        return row.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder quote(StringBuilder row, String value) {
+        if (value == null) {
+            return row;
+        }
+        return row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void cancelIfActive(CopyIn copyIn) {
+        if (copyIn != null && copyIn.isActive()) {
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException ignored) {
+                // the surrounding transaction is rolled back anyway
+            }
+        }
+    }
+}
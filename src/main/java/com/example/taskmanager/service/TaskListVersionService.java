@@ -0,0 +1,28 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.repository.TaskListVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-owner version of the task collection, used to validate list responses. Every write
+ * path that adds, changes or removes an owner's tasks calls {@link #changed} inside its own
+ * transaction, which bumps the owner's counter.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskListVersionService {
+
+    private final TaskListVersionRepository taskListVersionRepository;
+
+    // Owners whose tasks never changed have no row yet
+    @Transactional(readOnly = true)
+    public long current(Long ownerId) {
+        return taskListVersionRepository.findVersionByOwnerId(ownerId).orElse(0L);
+    }
+
+    public void changed(Long ownerId) {
+        taskListVersionRepository.increment(ownerId);
+    }
+}
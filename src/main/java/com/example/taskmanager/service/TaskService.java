@@ -3,25 +3,61 @@ package com.example.taskmanager.service;
 import com.example.taskmanager.domain.Task;
 import com.example.taskmanager.domain.TaskStatus;
 import com.example.taskmanager.domain.User;
+import com.example.taskmanager.dto.CountMode;
+import com.example.taskmanager.dto.CursorPageResponse;
 import com.example.taskmanager.dto.PageResponse;
+import com.example.taskmanager.dto.SearchCursor;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.TaskManagerException;
 import com.example.taskmanager.exception.UnauthorizedAccessException;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskSearchHit;
+import com.example.taskmanager.repository.TaskSearchRepository;
+import com.example.taskmanager.repository.TaskSpecifications;
+import com.example.taskmanager.repository.TaskStamp;
+import com.example.taskmanager.repository.TaskStatsRepository;
+import com.example.taskmanager.repository.TaskWriteRepository;
 import com.example.taskmanager.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskListVersionService taskListVersionService;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskWriteRepository taskWriteRepository;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
 
     @Transactional
     public TaskResponse create(TaskRequest request, Long ownerId) {
@@ -37,56 +73,225 @@ public class TaskService {
                 .owner(owner)
                 .build();
 
-        return TaskResponse.from(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        taskListVersionService.changed(ownerId);
+        return TaskResponse.from(saved);
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<TaskResponse> findByOwner(Long ownerId, TaskStatus status, int page, int size) {
-        var pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        var result = taskRepository.findByOwnerIdWithFilters(ownerId, status, pageable);
-        return PageResponse.from(result, TaskResponse::from);
+    public PageResponse<TaskResponse> findByOwner(Long ownerId, TaskFilter filter, int page, int size, CountMode count) {
+        if (page < 0) {
+            throw new InvalidRequestException("Page index must not be negative");
+        }
+        checkPageSize(size);
+        var pageable = PageRequest.of(page, size, TaskSpecifications.listingOrder(filter));
+        Specification<Task> spec = TaskSpecifications.matching(ownerId, filter);
+
+        // Only EXACT pays for a COUNT(*); the other modes fetch size + 1 rows to compute "last"
+        return switch (count) {
+            case EXACT -> PageResponse.from(
+                    taskRepository.findBy(spec, query -> query.as(TaskResponse.class).page(pageable)),
+                    Function.identity());
+            case ESTIMATE -> PageResponse.from(
+                    taskRepository.findBy(spec, query -> query.as(TaskResponse.class).slice(pageable)),
+                    Function.identity(),
+                    estimateTotal(ownerId, filter, spec));
+            case NONE -> PageResponse.from(
+                    taskRepository.findBy(spec, query -> query.as(TaskResponse.class).slice(pageable)),
+                    Function.identity(),
+                    null);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> findByOwnerAfter(Long ownerId, TaskStatus status, String cursor, int size) {
+        checkPageSize(size);
+        TaskCursor position = TaskCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<TaskResponse> rows = status == null
+                ? taskRepository.findByOwnerIdBefore(ownerId, position.createdAt(), position.id(), limit)
+                : taskRepository.findByOwnerIdAndStatusBefore(ownerId, status, position.createdAt(), position.id(), limit);
+
+        return CursorPageResponse.from(rows, size, Function.identity(),
+                task -> new TaskCursor(task.createdAt(), task.id()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> search(Long ownerId, String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        checkPageSize(size);
+        SearchCursor position = SearchCursor.decode(cursor);
+
+        List<TaskSearchHit> hits = taskSearchRepository.searchBefore(
+                ownerId, query, position.rank(), position.id(), size + 1);
+        return CursorPageResponse.from(hits, size, TaskSearchHit::task,
+                hit -> new SearchCursor(hit.rank(), hit.task().id()).encode());
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
     }
 
     @Transactional(readOnly = true)
     public TaskResponse findById(Long taskId, Long requestingUserId) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwnership(task, requestingUserId);
-        return TaskResponse.from(task);
+        TaskResponse task = taskRepository.findResponseById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+        if (!task.ownerId().equals(requestingUserId)) {
+            throw new UnauthorizedAccessException();
+        }
+        return task;
+    }
+
+    // Cheap pre-check for conditional GETs; ownership is enforced exactly as in findById
+    @Transactional(readOnly = true)
+    public TaskStamp findStamp(Long taskId, Long requestingUserId) {
+        TaskStamp stamp = taskRepository.findStampById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+        if (!stamp.ownerId().equals(requestingUserId)) {
+            throw new UnauthorizedAccessException();
+        }
+        return stamp;
     }
 
     @Transactional
     public TaskResponse update(Long taskId, TaskRequest request, Long requestingUserId) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwnership(task, requestingUserId);
+        return update(taskId, request, requestingUserId, null);
+    }
 
-        task.setTitle(request.title());
-        task.setDescription(request.description());
+    /**
+     * Owner-scoped full update in one statement that also returns the new row; a non-null
+     * expectedVersion turns it into a compare-and-set on the task's version. The list-version
+     * bump is the only other statement. Lookups happen only when the update matched nothing.
+     */
+    @Transactional
+    public TaskResponse update(Long taskId, TaskRequest request, Long requestingUserId, Long expectedVersion) {
+        // Null status/priority/dueDate keep their current values, as before
+        TaskResponse updated = taskWriteRepository.updateByIdAndOwnerId(taskId, requestingUserId,
+                        request.title(), request.description(),
+                        request.status(), request.priority(), request.dueDate(),
+                        Task.now(), expectedVersion)
+                .orElseThrow(() -> rejectedUpdate(taskId, requestingUserId));
 
-        // Java 21 pattern matching with null-safe updates
-        if (request.status() != null) task.setStatus(request.status());
-        if (request.priority() != null) task.setPriority(request.priority());
-        if (request.dueDate() != null) task.setDueDate(request.dueDate());
+        taskListVersionService.changed(requestingUserId);
+        return updated;
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7386): absent members are left alone, {@code null}
+     * clears a nullable field. The patched state is validated like a full {@link TaskRequest}
+     * and written through the managed entity, so only the changed columns are updated.
+     */
+    @Transactional
+    public TaskResponse patch(Long taskId, JsonNode patch, Long requestingUserId, Long expectedVersion) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException("Merge patch must be a JSON object");
+        }
+
+        Task task = findOwned(taskId, requestingUserId);
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Task", taskId);
+        }
+
+        TaskRequest current = new TaskRequest(task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getPriority(), task.getDueDate());
+        TaskRequest merged = merge(current, (ObjectNode) patch);
+        if (merged.equals(current)) {
+            return TaskResponse.from(task);
+        }
+
+        task.setTitle(merged.title());
+        task.setDescription(merged.description());
+        task.setStatus(merged.status());
+        task.setPriority(merged.priority());
+        task.setDueDate(merged.dueDate());
+        flush(taskId, expectedVersion);
 
-        return TaskResponse.from(taskRepository.save(task));
+        taskListVersionService.changed(requestingUserId);
+        return TaskResponse.from(task);
     }
 
     @Transactional
     public void delete(Long taskId, Long requestingUserId) {
-        Task task = getTaskOrThrow(taskId);
-        validateOwnership(task, requestingUserId);
-        taskRepository.delete(task);
+        if (taskWriteRepository.deleteByIdAndOwnerId(taskId, requestingUserId) == 0) {
+            throw missingOrForbidden(taskId);
+        }
+        taskListVersionService.changed(requestingUserId);
     }
 
-    // Java 21 pattern matching for instanceof
-    private void validateOwnership(Task task, Long userId) {
-        User owner = task.getOwner();
-        if (owner instanceof User u && !u.getId().equals(userId)) {
-            throw new UnauthorizedAccessException();
+    // The task_stats cells only cover status and priority; other filters fall back to a real count
+    private long estimateTotal(Long ownerId, TaskFilter filter, Specification<Task> spec) {
+        return filter.hasOnlyStatus()
+                ? taskStatsRepository.sumTotal(ownerId, filter.status())
+                : taskRepository.count(spec);
+    }
+
+    private TaskRequest merge(TaskRequest current, ObjectNode patch) {
+        ObjectNode document = jsonMapper.valueToTree(current);
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            if (member.getValue().isNull()) {
+                document.remove(member.getKey());
+            } else {
+                document.set(member.getKey(), member.getValue());
+            }
         }
+
+        TaskRequest merged;
+        try {
+            merged = jsonMapper.treeToValue(document, TaskRequest.class);
+        } catch (JacksonException ex) {
+            throw new InvalidRequestException("Invalid merge patch: " + ex.getOriginalMessage());
+        }
+        if (merged.status() == null || merged.priority() == null) {
+            throw new InvalidRequestException("status and priority cannot be removed");
+        }
+
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(merged);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return merged;
+    }
+
+    // Zero rows on an update: missing (404), not owned (403) or a stale expected version (412)
+    private TaskManagerException rejectedUpdate(Long taskId, Long requestingUserId) {
+        return taskRepository.findStampById(taskId)
+                .<TaskManagerException>map(stamp -> stamp.ownerId().equals(requestingUserId)
+                        ? new PreconditionFailedException("Task", taskId)
+                        : new UnauthorizedAccessException())
+                .orElseGet(() -> new ResourceNotFoundException("Task", taskId));
     }
 
-    private Task getTaskOrThrow(Long taskId) {
-        return taskRepository.findById(taskId)
+    // Only reached when an owner-scoped statement matched nothing: tell 404 and 403 apart
+    private TaskManagerException missingOrForbidden(Long taskId) {
+        return taskRepository.existsById(taskId)
+                ? new UnauthorizedAccessException()
+                : new ResourceNotFoundException("Task", taskId);
+    }
+
+    private Task findOwned(Long taskId, Long requestingUserId) {
+        Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+        if (!task.getOwner().getId().equals(requestingUserId)) {
+            throw new UnauthorizedAccessException();
+        }
+        return task;
+    }
+
+    // Flush now so the response carries the bumped version and updatedAt; a concurrent
+    // writer is a failed precondition when the client asked for one, a conflict otherwise
+    private void flush(Long taskId, Long expectedVersion) {
+        try {
+            taskRepository.flush();
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Task", taskId);
+            }
+            throw ex;
+        }
     }
-}
\ No newline at end of file
+}
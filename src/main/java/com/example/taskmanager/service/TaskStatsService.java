@@ -0,0 +1,52 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStats;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskStatsResponse;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Dashboard summary of an owner's tasks. Status and priority totals come from the
+ * trigger-maintained {@code task_stats} cells, so they cost the same for ten tasks or ten
+ * million. Overdue depends on the clock rather than on writes and is counted live.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public TaskStatsResponse stats(Long ownerId) {
+        Map<TaskStatus, Long> byStatus = zeros(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = zeros(TaskPriority.class);
+        long total = 0;
+
+        for (TaskStats cell : taskStatsRepository.findByIdOwnerId(ownerId)) {
+            byStatus.merge(cell.getId().getStatus(), cell.getTotal(), Long::sum);
+            byPriority.merge(cell.getId().getPriority(), cell.getTotal(), Long::sum);
+            total += cell.getTotal();
+        }
+
+        return new TaskStatsResponse(total, byStatus, byPriority,
+                taskRepository.countOverdue(ownerId, Task.now()));
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeros(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.domain.UserRole;
+import com.example.taskmanager.dto.BatchUserResponse;
+import com.example.taskmanager.dto.UserProvisionRequest;
+import com.example.taskmanager.dto.UserResponse;
+import com.example.taskmanager.exception.EmailAlreadyExistsException;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Creates many user accounts in one admin request. Items are validated and deduplicated
+ * within the batch, emails that are already registered are rejected (one IN query per
+ * chunk), and only the remaining passwords are hashed in parallel, all before any
+ * transaction is opened. A short transaction then inserts the new users in JDBC batches of
+ * {@code hibernate.jdbc.batch_size}, clearing the persistence context after each chunk.
+ * The email unique index stays the final guard: a signup racing the batch for the same
+ * email fails the whole batch with 409.
+ */
+@Service
+public class UserProvisioningService {
+
+    private static final int CHUNK_SIZE = 50;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final int hashConcurrency;
+
+    public UserProvisioningService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${users.provisioning.max-size:5000}") int maxBatchSize,
+            @Value("${users.provisioning.hash-concurrency:4}") int hashConcurrency) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.hashConcurrency = hashConcurrency;
+    }
+
+    public BatchUserResponse provisionAll(List<UserProvisionRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidRequestException("Batch exceeds the maximum of %d users".formatted(maxBatchSize));
+        }
+
+        BatchUserResponse.Item[] results = new BatchUserResponse.Item[requests.size()];
+        Map<String, Integer> accepted = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserProvisionRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (errors.isEmpty() && accepted.putIfAbsent(request.email(), i) != null) {
+                errors = List.of("email: duplicated within the batch");
+            }
+            if (!errors.isEmpty()) {
+                results[i] = BatchUserResponse.Item.rejected(i, errors);
+            }
+        }
+
+        // Cheap lookup first, so rejected rows never take hashing capacity
+        for (String email : existingEmails(accepted.keySet())) {
+            int index = accepted.remove(email);
+            results[index] = BatchUserResponse.Item.rejected(index, List.of("email: already registered"));
+        }
+
+        // Hashing takes seconds for a large batch; no connection or transaction is held meanwhile
+        Map<Integer, String> hashes = hashAll(accepted.values(), requests);
+
+        try {
+            int created = transactionTemplate.execute(status -> insertAll(requests, accepted, hashes, results));
+            return new BatchUserResponse(created, requests.size() - created, List.of(results));
+        } catch (DataIntegrityViolationException ex) {
+            if (UserService.isUniqueViolation(ex)) {
+                throw new EmailAlreadyExistsException("one or more batch emails were registered concurrently");
+            }
+            throw ex;
+        }
+    }
+
+    private int insertAll(List<UserProvisionRequest> requests, Map<String, Integer> accepted,
+                          Map<Integer, String> hashes, BatchUserResponse.Item[] results) {
+        List<Integer> indexes = accepted.values().stream().sorted().toList();
+        for (int from = 0; from < indexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunkIndexes = indexes.subList(from, Math.min(from + CHUNK_SIZE, indexes.size()));
+            List<User> chunk = chunkIndexes.stream()
+                    .map(i -> toUser(requests.get(i), hashes.get(i)))
+                    .toList();
+            flush(chunk, chunkIndexes, results);
+        }
+        return indexes.size();
+    }
+
+    private void flush(List<User> chunk, List<Integer> chunkIndexes, BatchUserResponse.Item[] results) {
+        List<User> saved = userRepository.saveAll(chunk);
+        userRepository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = BatchUserResponse.Item.created(index, UserResponse.from(saved.get(i)));
+        }
+        entityManager.clear();
+    }
+
+    private Set<String> existingEmails(Set<String> emails) {
+        Set<String> existing = new HashSet<>();
+        List<String> all = List.copyOf(emails);
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK_SIZE) {
+            existing.addAll(userRepository.findExistingEmails(
+                    all.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, all.size()))));
+        }
+        return existing;
+    }
+
+    // BCrypt dominates the cost of provisioning; at most hashConcurrency hashes are in flight
+    // so a large batch cannot fill the shared hashing queue and turn logins away
+    private Map<Integer, String> hashAll(Collection<Integer> indexes, List<UserProvisionRequest> requests) {
+        Semaphore permits = new Semaphore(hashConcurrency);
+        Map<Integer, Future<String>> futures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index : indexes) {
+                String password = requests.get(index).password();
+                futures.put(index, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return passwordEncoder.encode(password);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            Map<Integer, String> hashes = new HashMap<>();
+            for (Map.Entry<Integer, Future<String>> future : futures.entrySet()) {
+                hashes.put(future.getKey(), future.getValue().get());
+            }
+            return hashes;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private List<String> validate(UserProvisionRequest request) {
+        if (request == null) {
+            return List.of("user: must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+    }
+
+    private User toUser(UserProvisionRequest request, String hash) {
+        return User.builder()
+                .name(request.name())
+                .email(request.email())
+                .password(hash)
+                .role(request.role() != null ? request.role() : UserRole.USER)
+                .build();
+    }
+}
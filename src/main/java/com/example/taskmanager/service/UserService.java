@@ -7,6 +7,8 @@ import com.example.taskmanager.exception.EmailAlreadyExistsException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,17 +22,28 @@ public class UserService {
 
     @Transactional
     public UserResponse create(UserRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
-            throw new EmailAlreadyExistsException(request.email());
-        }
+        return UserResponse.from(createUser(request));
+    }
 
+    // Returns the saved entity so callers can issue a token without loading it again.
+    // The unique index on email is the only duplicate check, so concurrent signups for
+    // the same address cannot both pass it.
+    @Transactional
+    public User createUser(UserRequest request) {
         User user = User.builder()
                 .name(request.name())
                 .email(request.email())
                 .password(passwordEncoder.encode(request.password()))
                 .build();
 
-        return UserResponse.from(userRepository.save(user));
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (isUniqueViolation(ex)) {
+                throw new EmailAlreadyExistsException(request.email());
+            }
+            throw ex;
+        }
     }
 
     @Transactional(readOnly = true)
@@ -39,4 +52,10 @@ public class UserService {
                 .map(UserResponse::from)
                 .orElseThrow(() -> new ResourceNotFoundException("User", id));
     }
-}
\ No newline at end of file
+
+    // email is the only unique column on users besides the generated id
+    static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+}
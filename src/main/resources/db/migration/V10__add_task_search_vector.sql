@@ -0,0 +1,8 @@
+-- Full-text search over title (weight A) and description (weight B). The vector is a
+-- stored generated column, so it is always in sync and never computed at query time.
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
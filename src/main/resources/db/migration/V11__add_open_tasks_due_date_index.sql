@@ -0,0 +1,4 @@
+-- Reminder and overdue queries only care about unfinished work. Leaving DONE rows out
+-- keeps this index a fraction of the table, and (owner_id, due_date) turns "overdue" or
+-- "due this week" for an owner into a single range scan in due-date order.
+CREATE INDEX idx_tasks_owner_open_due_date_id ON tasks(owner_id, due_date, id) WHERE status <> 'DONE';
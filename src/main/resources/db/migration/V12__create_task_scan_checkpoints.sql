@@ -0,0 +1,15 @@
+-- High-water marks for background scanners: each run resumes after the last
+-- (due_date, id) it processed instead of rescanning the whole table.
+CREATE TABLE task_scan_checkpoints (
+    name          VARCHAR(50) PRIMARY KEY,
+    last_due_date TIMESTAMP   NOT NULL,
+    last_task_id  BIGINT      NOT NULL,
+    updated_at    TIMESTAMP   NOT NULL
+);
+
+-- Start from now: tasks that were already overdue before the scanner existed are not replayed
+INSERT INTO task_scan_checkpoints (name, last_due_date, last_task_id, updated_at)
+VALUES ('overdue', NOW(), 0, NOW());
+
+-- Cross-owner walk of open tasks in due-date order, used by the overdue scanner
+CREATE INDEX idx_tasks_open_due_date_id ON tasks(due_date, id) WHERE status <> 'DONE';
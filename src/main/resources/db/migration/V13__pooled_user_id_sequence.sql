@@ -0,0 +1,3 @@
+-- Same pooled allocation as tasks (V6): 50 ids per nextval() lets bulk user provisioning
+-- JDBC-batch its inserts. Must match User's allocationSize.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Serves keyset pagination: WHERE owner_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_tasks_owner_created_at_id ON tasks(owner_id, created_at DESC, id DESC);
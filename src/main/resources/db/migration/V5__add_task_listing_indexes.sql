@@ -0,0 +1,13 @@
+-- One index per listing shape, each ending in the listing's sort order so Postgres
+-- can walk it instead of sorting an owner's whole task set in memory.
+
+-- owner + status, newest first (offset and keyset listings filtered by status)
+CREATE INDEX idx_tasks_owner_status_created_at_id ON tasks(owner_id, status, created_at DESC, id DESC);
+
+-- owner + due date range, soonest first; undated tasks never match a due-date filter
+CREATE INDEX idx_tasks_owner_due_date_id ON tasks(owner_id, due_date, id) WHERE due_date IS NOT NULL;
+
+-- Both are covered by the composite indexes above: owner_id is the leading column of
+-- idx_tasks_owner_created_at_id, and status alone is never queried without an owner.
+DROP INDEX idx_tasks_owner_id;
+DROP INDEX idx_tasks_status;
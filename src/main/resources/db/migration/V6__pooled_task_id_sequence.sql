@@ -0,0 +1,4 @@
+-- Hibernate's pooled optimizer hands out 50 ids per nextval() so bulk inserts can be
+-- JDBC-batched; the sequence increment must match Task's allocationSize. Rows inserted
+-- through the column default still draw unique values from the same sequence.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
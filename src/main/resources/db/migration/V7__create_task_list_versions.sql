@@ -0,0 +1,7 @@
+-- Per-owner version of the task collection, bumped on every task write. A narrow row of
+-- its own rather than a users column, so a bump never rewrites (or locks) the user row;
+-- owners without a row are at version 0.
+CREATE TABLE task_list_versions (
+    owner_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    version  BIGINT NOT NULL
+) WITH (fillfactor = 70);
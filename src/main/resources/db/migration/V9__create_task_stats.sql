@@ -0,0 +1,68 @@
+-- Per-owner task counters, one row per status/priority cell. They are maintained by
+-- statement-level triggers so every write path (JPA, bulk UPDATE/DELETE, COPY) keeps
+-- them exact, and a bulk statement touches each affected cell once instead of per row.
+CREATE TABLE task_stats (
+    owner_id BIGINT      NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    status   VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    total    BIGINT      NOT NULL,
+    PRIMARY KEY (owner_id, status, priority)
+);
+
+INSERT INTO task_stats (owner_id, status, priority, total)
+SELECT owner_id, status, priority, count(*)
+FROM tasks
+GROUP BY owner_id, status, priority;
+
+CREATE FUNCTION apply_task_stats_delta() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_stats (owner_id, status, priority, total)
+        SELECT owner_id, status, priority, count(*)
+        FROM new_rows
+        GROUP BY owner_id, status, priority
+        ORDER BY owner_id, status, priority
+        ON CONFLICT (owner_id, status, priority)
+            DO UPDATE SET total = task_stats.total + EXCLUDED.total;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE task_stats s
+        SET total = s.total - d.removed
+        FROM (SELECT owner_id, status, priority, count(*) AS removed
+              FROM old_rows
+              GROUP BY owner_id, status, priority) d
+        WHERE s.owner_id = d.owner_id AND s.status = d.status AND s.priority = d.priority;
+
+    ELSE
+        -- Only rows that moved to another cell matter; title or date edits are free
+        INSERT INTO task_stats (owner_id, status, priority, total)
+        SELECT owner_id, status, priority, sum(delta)
+        FROM (SELECT o.owner_id, o.status, o.priority, -1 AS delta
+              FROM old_rows o JOIN new_rows n ON n.id = o.id
+              WHERE (o.owner_id, o.status, o.priority) IS DISTINCT FROM (n.owner_id, n.status, n.priority)
+              UNION ALL
+              SELECT n.owner_id, n.status, n.priority, 1
+              FROM old_rows o JOIN new_rows n ON n.id = o.id
+              WHERE (o.owner_id, o.status, o.priority) IS DISTINCT FROM (n.owner_id, n.status, n.priority)) moved
+        GROUP BY owner_id, status, priority
+        ORDER BY owner_id, status, priority
+        ON CONFLICT (owner_id, status, priority)
+            DO UPDATE SET total = task_stats.total + EXCLUDED.total;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Transition tables require one trigger per event
+CREATE TRIGGER task_stats_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_task_stats_delta();
+
+CREATE TRIGGER task_stats_update AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_task_stats_delta();
+
+CREATE TRIGGER task_stats_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_task_stats_delta();
@@ -0,0 +1,81 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class BulkheadDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource pool;
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        bulkhead = new BulkheadDataSource(pool, 1, Duration.ofMillis(50));
+        bulkhead.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject callers beyond the cap and admit them again once a connection closes")
+    void shouldBoundCheckedOutConnections() throws SQLException {
+        Connection first = bulkhead.getConnection();
+
+        assertThatThrownBy(() -> bulkhead.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("db.bulkhead.rejected").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isZero();
+
+        first.close();
+        first.close();
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isEqualTo(1);
+
+        bulkhead.getConnection().close();
+        verify(pool, times(2)).getConnection();
+        assertThat(meterRegistry.get("db.bulkhead.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool itself fails")
+    void shouldReleaseOnPoolFailure() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThatThrownBy(() -> bulkhead.getConnection()).hasMessage("pool down");
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer identity and target lookups on the proxy without touching the connection")
+    void shouldExposeTargetConnection() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+
+        Connection connection = bulkhead.getConnection();
+
+        assertThat(connection).isInstanceOf(ConnectionProxy.class).isEqualTo(connection).isNotEqualTo(target);
+        assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+        assertThat(((ConnectionProxy) connection).getTargetConnection()).isSameAs(target);
+        assertThat(DataSourceUtils.getTargetConnection(connection)).isSameAs(target);
+        assertThat(connection.unwrap(ConnectionProxy.class)).isSameAs(connection);
+        verifyNoInteractions(target);
+
+        connection.close();
+        verify(target).close();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.domain.UserRole;
+import com.example.taskmanager.dto.LoginRequest;
+import com.example.taskmanager.dto.UserRequest;
+import com.example.taskmanager.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AuthControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Statistics statistics;
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        savedUser = userRepository.saveAndFlush(User.builder()
+                .name("Existing User")
+                .email("existing@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role(UserRole.USER)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - should authenticate with a single user query")
+    void shouldLoginWithSingleQuery() throws Exception {
+        LoginRequest request = new LoginRequest("existing@example.com", "password123");
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.user.id").value(savedUser.getId()))
+                .andExpect(jsonPath("$.user.name").value("Existing User"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - should rehash a password stored with an outdated cost")
+    void shouldUpgradeWeakHashOnLogin() throws Exception {
+        User legacy = userRepository.saveAndFlush(User.builder()
+                .name("Legacy User")
+                .email("legacy@example.com")
+                .password(new BCryptPasswordEncoder(4).encode("password123"))
+                .role(UserRole.USER)
+                .build());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("legacy@example.com", "password123"))))
+                .andExpect(status().isOk());
+
+        String stored = jdbcTemplate.queryForObject(
+                "SELECT password FROM users WHERE id = ?", String.class, legacy.getId());
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("password123", stored)).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/register - should not reload the created user")
+    void shouldRegisterWithoutReloadingUser() throws Exception {
+        UserRequest request = new UserRequest("New User", "new@example.com", "password123");
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.user.email").value("new@example.com"));
+
+        // the insert alone: no duplicate-email query and no SELECT of the new row
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
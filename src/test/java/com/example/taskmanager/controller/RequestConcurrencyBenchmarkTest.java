@@ -0,0 +1,146 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.TaskmanagerApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Real HTTP against the application started once with Tomcat's platform worker pool and
+// once with virtual threads, both on the same Postgres schema and connection bulkhead.
+// Reports throughput and latency for comparison; it asserts nothing about their ratio.
+// Opt-in: mvn test -Pbenchmark
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class RequestConcurrencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestConcurrencyBenchmarkTest.class);
+
+    private static final int TASKS = 50;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 4000;
+    private static final int CLIENTS = 400;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Result(double throughput, Duration p50, Duration p99, long errors) {}
+
+    @ParameterizedTest(name = "spring.threads.virtual.enabled={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Reports task listing throughput and latency over HTTP")
+    void listTasks(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext app = start(virtualThreads)) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+            JsonNode auth = post(baseUrl + "/api/v1/auth/register", null, """
+                    {"name": "Bench", "email": "bench-%s@example.com", "password": "password123"}
+                    """.formatted(virtualThreads));
+            String token = auth.get("token").asText();
+            String tasksUrl = baseUrl + "/api/v1/users/" + auth.get("user").get("id").asLong() + "/tasks";
+            for (int i = 0; i < TASKS; i++) {
+                post(tasksUrl, token, "{\"title\": \"Task %d\"}".formatted(i));
+            }
+
+            HttpRequest listing = HttpRequest.newBuilder(URI.create(tasksUrl + "?size=20&count=NONE"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            run(listing, WARMUP_REQUESTS);
+            Result result = run(listing, REQUESTS);
+
+            log.info("spring.threads.virtual.enabled={}: {} req/s, p50 {} ms, p99 {} ms, {} errors",
+                    virtualThreads, Math.round(result.throughput()),
+                    result.p50().toMillis(), result.p99().toMillis(), result.errors());
+            assertThat(result.errors()).isZero();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        // Command-line arguments outrank the H2 settings in the test application.yml
+        return new SpringApplicationBuilder(TaskmanagerApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.flyway.enabled=true");
+    }
+
+    // CLIENTS requests in flight at a time; latency is measured from send to full response
+    private Result run(HttpRequest request, int count) throws Exception {
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        List<Future<Long>> futures = new ArrayList<>(count);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        return status == 200 ? System.nanoTime() - sent : -1L;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+        long errors = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        if (succeeded.length == 0) {
+            return new Result(0, Duration.ZERO, Duration.ZERO, errors);
+        }
+        return new Result(succeeded.length / elapsedSeconds,
+                Duration.ofNanos(succeeded[succeeded.length / 2]),
+                Duration.ofNanos(succeeded[(int) (succeeded.length * 0.99)]),
+                errors);
+    }
+
+    private JsonNode post(String url, String token, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+        return objectMapper.readTree(response.body());
+    }
+}
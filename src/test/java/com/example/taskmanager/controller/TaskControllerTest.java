@@ -3,6 +3,7 @@ package com.example.taskmanager.controller;
 import com.example.taskmanager.domain.*;
 import com.example.taskmanager.dto.LoginRequest;
 import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.repository.TaskRepository;
 import com.example.taskmanager.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,12 +15,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +41,7 @@ class TaskControllerTest {
     @Autowired UserRepository userRepository;
     @Autowired TaskRepository taskRepository;
     @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JdbcTemplate jdbcTemplate;
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
@@ -82,6 +91,142 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("New Task"));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/users/{userId}/tasks/batch - should create valid items and report invalid ones")
+    void shouldCreateTasksInBatch() throws Exception {
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("Imported 1", null, null, null, null),
+                new TaskRequest("", null, null, null, null),
+                new TaskRequest("Imported 2", "Details", TaskStatus.DONE, TaskPriority.HIGH, null));
+
+        mockMvc.perform(post("/api/v1/users/" + user.getId() + "/tasks/batch")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].task.title").value("Imported 1"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("title: Title is required"))
+                .andExpect(jsonPath("$.results[2].task.status").value("DONE"));
+
+        assertThat(taskRepository.countByOwnerIdAndStatus(user.getId(), TaskStatus.DONE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks/export - should stream tasks as NDJSON")
+    void shouldExportTasksAsNdjson() throws Exception {
+        taskRepository.save(Task.builder().title("Second").owner(user).build());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks/export")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Second");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(task.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks/export?format=CSV - should stream tasks as CSV")
+    void shouldExportTasksAsCsv() throws Exception {
+        taskRepository.save(Task.builder().title("Quote \"me\", please").owner(user).build());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks/export")
+                        .param("format", "CSV")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"tasks-" + user.getId() + ".csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines[0]).isEqualTo("id,title,description,status,priority,dueDate,createdAt,updatedAt");
+        assertThat(lines[1]).contains("\"Quote \"\"me\"\", please\",,TODO,MEDIUM,,");
+        assertThat(lines).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/{userId}/tasks/transition - should move selected tasks in one update")
+    void shouldTransitionTasksByIds() throws Exception {
+        Task done = taskRepository.save(Task.builder().title("Done").status(TaskStatus.DONE).owner(user).build());
+        User other = userRepository.save(User.builder().name("Other").email("other-transition@example.com")
+                .password("x").role(UserRole.USER).build());
+        Task foreign = taskRepository.save(Task.builder().title("Foreign").owner(other).build());
+
+        mockMvc.perform(post("/api/v1/users/" + user.getId() + "/tasks/transition")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "ids", List.of(task.getId(), done.getId(), foreign.getId()),
+                                "status", "DONE"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.ids[0]").value(task.getId()));
+
+        TaskResponse moved = taskRepository.findResponseById(task.getId()).orElseThrow();
+        assertThat(moved.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(moved.version()).isEqualTo(1);
+        assertThat(taskRepository.findResponseById(foreign.getId()).orElseThrow().status()).isEqualTo(TaskStatus.TODO);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/{userId}/tasks/transition - should select by current status")
+    void shouldTransitionTasksByStatus() throws Exception {
+        taskRepository.save(Task.builder().title("Second").owner(user).build());
+        taskRepository.save(Task.builder().title("Started").status(TaskStatus.IN_PROGRESS).owner(user).build());
+
+        mockMvc.perform(post("/api/v1/users/" + user.getId() + "/tasks/transition")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fromStatus", "TODO", "priority", "HIGH"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        assertThat(taskRepository.countByOwnerIdAndStatus(user.getId(), TaskStatus.TODO)).isEqualTo(2);
+        mockMvc.perform(post("/api/v1/users/" + user.getId() + "/tasks/transition")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fromStatus", "TODO"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/{userId}/tasks/transition - should return 400 for a null id")
+    void shouldRejectTransitionWithNullId() throws Exception {
+        mockMvc.perform(post("/api/v1/users/" + user.getId() + "/tasks/transition")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [" + task.getId() + ", null], \"status\": \"DONE\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks/stats - should summarise counters and overdue tasks")
+    void shouldReturnTaskStats() throws Exception {
+        taskRepository.save(Task.builder().title("Late").dueDate(LocalDateTime.now().minusDays(1)).owner(user).build());
+        taskRepository.save(Task.builder().title("Late but done").status(TaskStatus.DONE)
+                .dueDate(LocalDateTime.now().minusDays(1)).owner(user).build());
+        // Counters are trigger-maintained on Postgres; the H2 test schema has no triggers
+        jdbcTemplate.update("INSERT INTO task_stats (owner_id, status, priority, total) VALUES (?, 'TODO', 'MEDIUM', 2)",
+                user.getId());
+        jdbcTemplate.update("INSERT INTO task_stats (owner_id, status, priority, total) VALUES (?, 'DONE', 'MEDIUM', 1)",
+                user.getId());
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks/stats")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.byStatus.CANCELLED").value(0))
+                .andExpect(jsonPath("$.byPriority.MEDIUM").value(3))
+                .andExpect(jsonPath("$.overdue").value(1));
+    }
+
     @Test
     @DisplayName("POST /api/v1/users/{userId}/tasks - should return 422 on blank title")
     void shouldReturn422OnBlankTitle() throws Exception {
@@ -104,6 +249,84 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Existing Task"));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks - should filter by priority and due date")
+    void shouldFilterTasks() throws Exception {
+        taskRepository.save(Task.builder().title("Urgent").priority(TaskPriority.HIGH)
+                .dueDate(LocalDateTime.of(2030, 1, 15, 9, 0)).owner(user).build());
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("priority", "HIGH")
+                        .param("dueFrom", "2030-01-01T00:00:00")
+                        .param("dueTo", "2030-02-01T00:00:00")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Urgent"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks?overdue=true - should list open tasks past due")
+    void shouldFilterOverdueTasks() throws Exception {
+        taskRepository.save(Task.builder().title("Late").dueDate(LocalDateTime.now().minusHours(1)).owner(user).build());
+        taskRepository.save(Task.builder().title("Late but done").status(TaskStatus.DONE)
+                .dueDate(LocalDateTime.now().minusHours(1)).owner(user).build());
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("overdue", "true")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Late"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks?count=NONE - should omit totals")
+    void shouldReturnTasksWithoutCount() throws Exception {
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("count", "NONE")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.content[0].title").value("Existing Task"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks?cursor - should page with keyset cursors")
+    void shouldReturnCursorPagedTasks() throws Exception {
+        taskRepository.save(Task.builder().title("Second Task").owner(user).build());
+
+        MvcResult first = mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+
+        String next = objectMapper.readTree(first.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("cursor", next)
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks?cursor - should return 400 on malformed cursor")
+    void shouldReturn400OnMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/v1/users/{userId}/tasks/{taskId} - should return task")
     void shouldGetTaskById() throws Exception {
@@ -121,6 +344,112 @@ class TaskControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks/{taskId} - should return 304 while the ETag matches")
+    void shouldReturn304ForUnchangedTask() throws Exception {
+        String url = "/api/v1/users/" + user.getId() + "/tasks/" + task.getId();
+        String etag = mockMvc.perform(get(url).header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Renamed", null, null, null, null))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/users/{userId}/tasks/{taskId} - should change only the supplied fields")
+    void shouldPatchTask() throws Exception {
+        task.setDescription("Long description");
+        taskRepository.saveAndFlush(task);
+        String url = "/api/v1/users/" + user.getId() + "/tasks/" + task.getId();
+
+        mockMvc.perform(patch(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\": \"DONE\", \"dueDate\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.title").value("Existing Task"))
+                .andExpect(jsonPath("$.description").value("Long description"));
+
+        mockMvc.perform(patch(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\": \"\"}"))
+                .andExpect(status().is(422));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/users/{userId}/tasks/{taskId} - should honour If-Match and return 412 when stale")
+    void shouldReturn412OnStaleIfMatch() throws Exception {
+        String url = "/api/v1/users/" + user.getId() + "/tasks/" + task.getId();
+        String etag = mockMvc.perform(get(url).header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        String firstWrite = mockMvc.perform(put(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("First", null, null, null, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("First"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(firstWrite).isNotEqualTo(etag);
+
+        mockMvc.perform(put(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Second", null, null, null, null))))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(taskRepository.findResponseById(task.getId()).orElseThrow().title()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/tasks - should return 304 until the owner's tasks change")
+    void shouldReturn304ForUnchangedList() throws Exception {
+        String url = "/api/v1/users/" + user.getId() + "/tasks";
+        String etag = mockMvc.perform(get(url).header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Another", null, null, null, null))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
     @Test
     @DisplayName("PUT /api/v1/users/{userId}/tasks/{taskId} - should update task")
     void shouldUpdateTask() throws Exception {
@@ -131,7 +460,12 @@ class TaskControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.title").value("Updated Task"));
+                .andExpect(jsonPath("$.id").value(task.getId()))
+                .andExpect(jsonPath("$.title").value("Updated Task"))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.priority").value("MEDIUM"))
+                .andExpect(jsonPath("$.version").value(task.getVersion() + 1))
+                .andExpect(jsonPath("$.ownerId").value(user.getId()));
     }
 
     @Test
@@ -142,10 +476,60 @@ class TaskControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("DELETE /api/v1/users/{userId}/tasks/{taskId} - should return 403 for another user's task")
+    void shouldReturn403WhenDeletingOthersTask() throws Exception {
+        User other = userRepository.save(User.builder()
+                .name("Other User")
+                .email("other@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .build());
+        Task othersTask = taskRepository.save(Task.builder().title("Not yours").owner(other).build());
+
+        mockMvc.perform(delete("/api/v1/users/" + user.getId() + "/tasks/" + othersTask.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/users/{userId}/tasks/{taskId} - should return 404 when not found")
+    void shouldReturn404WhenUpdatingMissingTask() throws Exception {
+        TaskRequest request = new TaskRequest("Updated Task", null, null, null, null);
+
+        mockMvc.perform(put("/api/v1/users/" + user.getId() + "/tasks/99999")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET tasks - should return 401 when no token")
     void shouldReturn401WhenNoToken() throws Exception {
         mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks"))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("GET tasks - should return 401 after logout revokes the token")
+    void shouldReturn401AfterLogout() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isNoContent());
+        // the cached token version is only evicted once the revocation commits
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            mockMvc.perform(get("/api/v1/users/" + user.getId() + "/tasks")
+                            .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            TestTransaction.start();
+            taskRepository.deleteById(task.getId());
+            userRepository.deleteById(user.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
 }
\ No newline at end of file
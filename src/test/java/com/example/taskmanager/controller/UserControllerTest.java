@@ -2,8 +2,11 @@ package com.example.taskmanager.controller;
 
 import com.example.taskmanager.domain.User;
 import com.example.taskmanager.domain.UserRole;
+import com.example.taskmanager.dto.UserProvisionRequest;
 import com.example.taskmanager.dto.UserRequest;
 import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.security.AuthenticatedUser;
+import com.example.taskmanager.security.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,6 +36,7 @@ class UserControllerTest {
     @Autowired MockMvc mockMvc;
     @Autowired UserRepository userRepository;
     @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
@@ -86,4 +93,44 @@ class UserControllerTest {
         mockMvc.perform(get("/api/v1/users/" + savedUser.getId()))
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /api/v1/admin/users/batch - should create valid users and report skipped ones")
+    void shouldProvisionUsersInBatch() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .name("Admin").email("admin@example.com")
+                .password("unused").role(UserRole.ADMIN).build());
+        List<UserProvisionRequest> requests = List.of(
+                new UserProvisionRequest("One", "one@example.com", "password123", null),
+                new UserProvisionRequest("Dup", "existing@example.com", "password123", null),
+                new UserProvisionRequest("", "bad", "short", null),
+                new UserProvisionRequest("Two", "two@example.com", "password123", UserRole.ADMIN),
+                new UserProvisionRequest("Again", "one@example.com", "password123", null));
+
+        mockMvc.perform(post("/api/v1/admin/users/batch")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(AuthenticatedUser.from(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.results[0].user.email").value("one@example.com"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("email: already registered"))
+                .andExpect(jsonPath("$.results[2].errors.length()").value(3))
+                .andExpect(jsonPath("$.results[3].user.role").value("ADMIN"))
+                .andExpect(jsonPath("$.results[4].errors[0]").value("email: duplicated within the batch"));
+
+        User created = userRepository.findByEmail("two@example.com").orElseThrow();
+        assertThat(passwordEncoder.matches("password123", created.getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/users/batch - should return 403 for non-admin users")
+    void shouldRejectProvisioningByNonAdmin() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/users/batch")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(AuthenticatedUser.from(savedUser)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+}
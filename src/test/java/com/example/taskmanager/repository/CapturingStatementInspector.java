@@ -0,0 +1,26 @@
+package com.example.taskmanager.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Records the SQL Hibernate sends so plan tests can EXPLAIN exactly what the application runs
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static String last() {
+        return statements.getLast();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanager.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListVersionRepositoryTest extends AbstractPostgresTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TaskListVersionRepository taskListVersionRepository;
+
+    private long ownerId;
+
+    @BeforeEach
+    void seed() {
+        ownerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, name, password) VALUES ('versions@example.com', 'Versions', 'x') RETURNING id",
+                Long.class);
+    }
+
+    @Test
+    @DisplayName("The first bump inserts the owner's row and later bumps increment it")
+    void upsertsVersion() {
+        assertThat(taskListVersionRepository.findVersionByOwnerId(ownerId)).isEmpty();
+
+        taskListVersionRepository.increment(ownerId);
+        taskListVersionRepository.increment(ownerId);
+
+        assertThat(taskListVersionRepository.findVersionByOwnerId(ownerId)).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Bumping the list version leaves the user row untouched")
+    void doesNotWriteUserRow() {
+        String before = jdbcTemplate.queryForObject("SELECT ctid::text FROM users WHERE id = ?", String.class, ownerId);
+
+        taskListVersionRepository.increment(ownerId);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT ctid::text FROM users WHERE id = ?", String.class, ownerId))
+                .isEqualTo(before);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the repository queries the service issues, then EXPLAINs the SQL Hibernate generated for them
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.taskmanager.repository.CapturingStatementInspector")
+class TaskQueryPlanTest extends AbstractPostgresTest {
+
+    private static final Pattern BIND = Pattern.compile("\\?");
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TaskRepository taskRepository;
+
+    private long ownerId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO users (email, name, password)
+                SELECT 'owner' || g || '@example.com', 'Owner ' || g, 'hashed'
+                FROM generate_series(1, 20) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tasks (title, status, priority, due_date, created_at, updated_at, owner_id)
+                SELECT 'Task ' || g,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED'])[1 + g % 4],
+                       'MEDIUM',
+                       CASE WHEN g % 3 = 0 THEN NULL ELSE TIMESTAMP '2026-01-01' + (g % 90) * INTERVAL '1 day' END,
+                       TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute',
+                       TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute',
+                       u.id
+                FROM users u, generate_series(1, 5000) g
+                """);
+        jdbcTemplate.execute("ANALYZE tasks");
+        ownerId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Owner listing walks the owner/createdAt index without sorting")
+    void ownerListingUsesOrderedIndex() {
+        String sql = list(TaskFilter.NONE, 10, 10);
+
+        assertThat(explain(sql, ownerId, 100, 11))
+                .contains("idx_tasks_owner_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Owner keyset seek walks the owner/createdAt index without sorting")
+    void ownerKeysetUsesOrderedIndex() {
+        taskRepository.findByOwnerIdBefore(ownerId, LocalDateTime.of(2025, 1, 2, 0, 0), 9_000_000L, Limit.of(11));
+        String sql = CapturingStatementInspector.last();
+
+        assertThat(explain(sql, ownerId, "2025-01-02 00:00", 9_000_000, 11))
+                .contains("idx_tasks_owner_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Owner + status listing walks the owner/status/createdAt index without sorting")
+    void ownerStatusListingUsesOrderedIndex() {
+        String sql = list(TaskFilter.byStatus(TaskStatus.TODO), 0, 10);
+
+        assertThat(explain(sql, ownerId, "TODO", 11))
+                .contains("idx_tasks_owner_status_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Owner + due date range scans the partial due-date index in order")
+    void ownerDueDateRangeUsesPartialIndex() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 10, 0, 0);
+        String sql = list(new TaskFilter(null, null, from, from.plusDays(7), false), 0, 10);
+
+        assertThat(explain(sql, ownerId, "2026-01-10 00:00", "2026-01-17 00:00", 11))
+                .contains("idx_tasks_owner_due_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Overdue open tasks range-scan the open-tasks due-date index")
+    void overdueUsesOpenTasksIndex() {
+        String sql = list(new TaskFilter(null, null, null, null, true), 0, 10);
+
+        assertThat(explain(sql, ownerId, "2026-01-20 00:00", 11))
+                .contains("idx_tasks_owner_open_due_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("The live overdue count in stats only reads the open-tasks due-date index")
+    void overdueCountUsesOpenTasksIndex() {
+        taskRepository.countOverdue(ownerId, LocalDateTime.of(2026, 1, 20, 0, 0));
+        String sql = CapturingStatementInspector.last();
+
+        assertThat(explain(sql, ownerId, "2026-01-20 00:00")).contains("idx_tasks_owner_open_due_date_id");
+    }
+
+    @Test
+    @DisplayName("Owner + priority listing keeps the owner/createdAt order")
+    void ownerPriorityListingUsesOrderedIndex() {
+        String sql = list(new TaskFilter(null, TaskPriority.MEDIUM, null, null, false), 0, 10);
+
+        assertThat(explain(sql, ownerId, "MEDIUM", 11))
+                .contains("idx_tasks_owner_created_at_id").doesNotContain("Sort");
+    }
+
+    // Same specification, order and slice as TaskService.findByOwner with count=NONE
+    private String list(TaskFilter filter, int page, int size) {
+        var pageable = PageRequest.of(page, size, TaskSpecifications.listingOrder(filter));
+        taskRepository.findBy(TaskSpecifications.matching(ownerId, filter),
+                query -> query.as(TaskResponse.class).slice(pageable));
+        return CapturingStatementInspector.last();
+    }
+
+    // Binds the captured statement's parameters in order and explains the resulting custom plan
+    private String explain(String sql, Object... params) {
+        Matcher binds = BIND.matcher(sql);
+        int[] position = {0};
+        String prepared = binds.replaceAll(match -> "\\$" + (++position[0]));
+        assertThat(position[0]).as("bind parameters in %s", sql).isEqualTo(params.length);
+
+        String args = Arrays.stream(params)
+                .map(param -> param instanceof Number ? param.toString() : "'" + param + "'")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("PREPARE listing AS " + prepared);
+        try {
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN EXECUTE listing(" + args + ")", String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE listing");
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.domain.*;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -62,4 +69,77 @@ class TaskRepositoryTest {
         Page<Task> tasks = taskRepository.findByOwnerId(999L, PageRequest.of(0, 10));
         assertThat(tasks.getTotalElements()).isZero();
     }
+
+    @Test
+    @DisplayName("Should seek tasks in createdAt/id order after a keyset position")
+    void shouldSeekByKeyset() {
+        List<TaskResponse> first = taskRepository.findByOwnerIdBefore(
+                user.getId(), TaskCursor.FIRST.createdAt(), TaskCursor.FIRST.id(), Limit.of(2));
+        assertThat(first).hasSize(2);
+
+        TaskResponse last = first.getLast();
+        List<TaskResponse> rest = taskRepository.findByOwnerIdBefore(
+                user.getId(), last.createdAt(), last.id(), Limit.of(2));
+        assertThat(rest).hasSize(1);
+        assertThat(rest).doesNotContainAnyElementsOf(first);
+    }
+
+    @Test
+    @DisplayName("Should seek tasks filtered by status")
+    void shouldSeekByKeysetAndStatus() {
+        List<TaskResponse> tasks = taskRepository.findByOwnerIdAndStatusBefore(
+                user.getId(), TaskStatus.DONE, TaskCursor.FIRST.createdAt(), TaskCursor.FIRST.id(), Limit.of(10));
+        assertThat(tasks).extracting(TaskResponse::title).containsExactly("Task 3");
+    }
+
+    @Test
+    @DisplayName("Should list tasks due within a range in due-date order")
+    void shouldListTasksDueWithin() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.save(Task.builder().title("Later").dueDate(now.plusDays(3)).owner(user).build());
+        taskRepository.save(Task.builder().title("Sooner").dueDate(now.plusDays(1)).owner(user).build());
+        taskRepository.save(Task.builder().title("Next month").dueDate(now.plusDays(30)).owner(user).build());
+
+        var filter = new TaskFilter(null, null, now, now.plusDays(7), false);
+        List<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(user.getId(), filter),
+                TaskSpecifications.listingOrder(filter));
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("Sooner", "Later");
+    }
+
+    @Test
+    @DisplayName("Should combine only the filters that are present")
+    void shouldFilterBySpecification() {
+        var byPriority = TaskSpecifications.matching(user.getId(), new TaskFilter(null, TaskPriority.HIGH, null, null, false));
+        assertThat(taskRepository.findAll(byPriority)).extracting(Task::getTitle).containsExactly("Task 1");
+
+        var byStatusAndPriority = TaskSpecifications.matching(user.getId(),
+                new TaskFilter(TaskStatus.DONE, TaskPriority.HIGH, null, null, false));
+        assertThat(taskRepository.findAll(byStatusAndPriority)).isEmpty();
+
+        assertThat(taskRepository.count(TaskSpecifications.matching(user.getId(), TaskFilter.NONE))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep only open tasks past their due date when filtering overdue")
+    void shouldFilterOverdue() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.save(Task.builder().title("Late").dueDate(now.minusDays(2)).owner(user).build());
+        taskRepository.save(Task.builder().title("Late but done").status(TaskStatus.DONE)
+                .dueDate(now.minusDays(2)).owner(user).build());
+        taskRepository.save(Task.builder().title("Upcoming").dueDate(now.plusDays(2)).owner(user).build());
+
+        var overdue = TaskSpecifications.matching(user.getId(), new TaskFilter(null, null, null, null, true));
+        assertThat(taskRepository.findAll(overdue)).extracting(Task::getTitle).containsExactly("Late");
+        assertThat(taskRepository.countOverdue(user.getId(), Task.now())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should project a task straight into its response")
+    void shouldFindResponseById() {
+        Task saved = taskRepository.save(Task.builder().title("Projected").owner(user).build());
+
+        TaskResponse response = taskRepository.findResponseById(saved.getId()).orElseThrow();
+        assertThat(response.title()).isEqualTo("Projected");
+        assertThat(response.ownerId()).isEqualTo(user.getId());
+    }
 }
\ No newline at end of file
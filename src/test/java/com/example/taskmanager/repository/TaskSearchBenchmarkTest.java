@@ -0,0 +1,88 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.SearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Latency targets for search over a seeded dataset: 200k tasks across 20 owners. Opt-in: mvn test -Pbenchmark
+@Tag("benchmark")
+class TaskSearchBenchmarkTest extends AbstractPostgresTest {
+
+    private static final int RUNS = 200;
+    private static final Duration P95_TARGET = Duration.ofMillis(50);
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private TaskSearchRepository searchRepository;
+    private long ownerId;
+
+    @BeforeEach
+    void seed() {
+        searchRepository = new TaskSearchRepository(JdbcClient.create(jdbcTemplate));
+        jdbcTemplate.execute("""
+                INSERT INTO users (email, name, password)
+                SELECT 'bench' || g || '@example.com', 'Bench ' || g, 'hashed'
+                FROM generate_series(1, 20) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tasks (title, description, owner_id)
+                SELECT (ARRAY['Review', 'Draft', 'Invoice', 'Plan', 'Fix'])[1 + g % 5] || ' item ' || g,
+                       'Notes about ' || (ARRAY['budget', 'release', 'customer', 'hiring', 'migration',
+                                                'security', 'roadmap', 'support'])[1 + g % 8]
+                           || ' and follow-up ' || md5(g::text),
+                       u.id
+                FROM users u, generate_series(1, 10000) g
+                """);
+        jdbcTemplate.execute("ANALYZE tasks");
+        ownerId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+    }
+
+    @Test
+    @DisplayName("Search uses the GIN index instead of scanning descriptions")
+    void searchUsesGinIndex() {
+        String plan = String.join("\n", JdbcClient.create(jdbcTemplate)
+                .sql("EXPLAIN " + TaskSearchRepository.SEARCH_SQL)
+                .param("ownerId", ownerId)
+                .param("query", "security budget")
+                .param("rank", SearchCursor.FIRST.rank())
+                .param("id", SearchCursor.FIRST.id())
+                .param("limit", 21)
+                .query(String.class)
+                .list());
+
+        assertThat(plan).contains("idx_tasks_search_vector");
+    }
+
+    @Test
+    @DisplayName("First pages stay within the p95 latency target")
+    void firstPageLatency() {
+        String[] queries = {"invoice", "security", "release follow-up", "plan -budget", "\"customer and\""};
+        for (int i = 0; i < 20; i++) {
+            search(queries[i % queries.length]);
+        }
+
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long started = System.nanoTime();
+            search(queries[i % queries.length]);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+
+        assertThat(Duration.ofNanos(nanos[(int) (RUNS * 0.95)])).isLessThan(P95_TARGET);
+    }
+
+    private void search(String query) {
+        searchRepository.searchBefore(ownerId, query, SearchCursor.FIRST.rank(), SearchCursor.FIRST.id(), 21);
+    }
+}
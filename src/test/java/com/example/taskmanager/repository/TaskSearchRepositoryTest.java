@@ -0,0 +1,77 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.SearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchRepositoryTest extends AbstractPostgresTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private TaskSearchRepository searchRepository;
+    private long ownerId;
+    private long otherOwnerId;
+
+    @BeforeEach
+    void seed() {
+        searchRepository = new TaskSearchRepository(JdbcClient.create(jdbcTemplate));
+        ownerId = insertUser("search@example.com");
+        otherOwnerId = insertUser("other-search@example.com");
+
+        insertTask(ownerId, "Invoice the client", "Send the quarterly numbers");
+        insertTask(ownerId, "Plan offsite", "Book venue, then invoice finance for the deposit");
+        insertTask(ownerId, "Invoices overdue", "Chase every unpaid invoice");
+        insertTask(ownerId, "Water plants", null);
+        insertTask(otherOwnerId, "Invoice someone else", null);
+    }
+
+    @Test
+    @DisplayName("Matches stemmed words in title and description, title hits first")
+    void ranksTitleMatchesFirst() {
+        List<TaskSearchHit> hits = searchRepository.searchBefore(ownerId, "invoice",
+                SearchCursor.FIRST.rank(), SearchCursor.FIRST.id(), 10);
+
+        assertThat(hits).extracting(hit -> hit.task().title())
+                .containsExactlyInAnyOrder("Invoice the client", "Plan offsite", "Invoices overdue");
+        assertThat(hits.getLast().task().title()).isEqualTo("Plan offsite");
+        assertThat(hits).allMatch(hit -> hit.task().ownerId().equals(ownerId));
+    }
+
+    @Test
+    @DisplayName("Keyset pages cover every hit exactly once")
+    void pagesWithoutGapsOrDuplicates() {
+        List<String> seen = new ArrayList<>();
+        SearchCursor position = SearchCursor.FIRST;
+        List<TaskSearchHit> page;
+        do {
+            page = searchRepository.searchBefore(ownerId, "invoice", position.rank(), position.id(), 1);
+            page.forEach(hit -> seen.add(hit.task().title()));
+            if (!page.isEmpty()) {
+                TaskSearchHit last = page.getLast();
+                position = SearchCursor.decode(new SearchCursor(last.rank(), last.task().id()).encode());
+            }
+        } while (!page.isEmpty());
+
+        assertThat(seen).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    private long insertUser(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, name, password) VALUES (?, 'Searcher', 'x') RETURNING id",
+                Long.class, email);
+    }
+
+    private void insertTask(long owner, String title, String description) {
+        jdbcTemplate.update("INSERT INTO tasks (title, description, owner_id) VALUES (?, ?, ?)",
+                title, description, owner);
+    }
+}
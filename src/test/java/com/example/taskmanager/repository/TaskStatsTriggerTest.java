@@ -0,0 +1,85 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStats;
+import com.example.taskmanager.domain.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStatsTriggerTest extends AbstractPostgresTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TaskStatsRepository taskStatsRepository;
+
+    private long ownerId;
+
+    @BeforeEach
+    void seed() {
+        ownerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, name, password) VALUES ('stats@example.com', 'Stats', 'x') RETURNING id",
+                Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, status, priority, owner_id)
+                SELECT 'Task ' || g, CASE WHEN g <= 3 THEN 'DONE' ELSE 'TODO' END, 'MEDIUM', ?
+                FROM generate_series(1, 10) g
+                """, ownerId);
+    }
+
+    @Test
+    @DisplayName("Bulk inserts are counted once per cell")
+    void countsInserts() {
+        assertThat(cells()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "DONE/MEDIUM", 3L,
+                "TODO/MEDIUM", 7L));
+    }
+
+    @Test
+    @DisplayName("Updates move tasks between cells and ignore unrelated columns")
+    void tracksUpdates() {
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_PROGRESS', priority = 'HIGH' " +
+                "WHERE owner_id = ? AND status = 'TODO' AND title IN ('Task 4', 'Task 5')", ownerId);
+        jdbcTemplate.update("UPDATE tasks SET title = title || '!' WHERE owner_id = ?", ownerId);
+
+        assertThat(cells()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "DONE/MEDIUM", 3L,
+                "TODO/MEDIUM", 5L,
+                "IN_PROGRESS/HIGH", 2L));
+    }
+
+    @Test
+    @DisplayName("Deletes decrement their cells")
+    void tracksDeletes() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE owner_id = ? AND status = 'DONE'", ownerId);
+
+        assertThat(cells()).containsEntry("DONE/MEDIUM", 0L).containsEntry("TODO/MEDIUM", 7L);
+    }
+
+    @Test
+    @DisplayName("Status totals sum the owner's cells")
+    void sumsTotals() {
+        jdbcTemplate.update("UPDATE tasks SET priority = 'HIGH' WHERE owner_id = ? AND title = 'Task 9'", ownerId);
+
+        assertThat(taskStatsRepository.sumTotal(ownerId, TaskStatus.TODO)).isEqualTo(7);
+        assertThat(taskStatsRepository.sumTotal(ownerId, TaskStatus.CANCELLED)).isZero();
+        assertThat(taskStatsRepository.sumTotal(ownerId, null)).isEqualTo(10);
+    }
+
+    private Map<String, Long> cells() {
+        return taskStatsRepository.findByIdOwnerId(ownerId).stream()
+                .collect(Collectors.toMap(
+                        cell -> cellKey(cell.getId().getStatus(), cell.getId().getPriority()),
+                        TaskStats::getTotal));
+    }
+
+    private static String cellKey(TaskStatus status, TaskPriority priority) {
+        return status + "/" + priority;
+    }
+}
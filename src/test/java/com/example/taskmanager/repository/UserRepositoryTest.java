@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -34,15 +36,15 @@ class UserRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should check email existence")
-    void shouldCheckEmailExists() {
+    @DisplayName("Should find which emails are already registered")
+    void shouldFindExistingEmails() {
         userRepository.save(User.builder()
                 .email("exists@example.com")
                 .name("User")
                 .password("hashed")
                 .build());
 
-        assertThat(userRepository.existsByEmail("exists@example.com")).isTrue();
-        assertThat(userRepository.existsByEmail("nope@example.com")).isFalse();
+        assertThat(userRepository.findExistingEmails(List.of("exists@example.com", "nope@example.com")))
+                .containsExactly("exists@example.com");
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should read plain and quoted fields record by record")
+    void shouldReadRecords() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "title,description\r\nPlain,\"Quoted, with comma\"\n\"Say \"\"hi\"\"\",\n"));
+
+        assertThat(reader.next()).containsExactly("title", "description");
+        assertThat(reader.next()).containsExactly("Plain", "Quoted, with comma");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("Say \"hi\"", "");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep line breaks inside quoted fields")
+    void shouldReadMultilineField() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"line one\nline two\",x\nnext,y"));
+
+        assertThat(reader.next()).containsExactly("line one\nline two", "x");
+        assertThat(reader.next()).containsExactly("next", "y");
+        assertThat(reader.recordLine()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fail on unterminated quoted field")
+    void shouldFailOnUnterminatedQuote() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("title\n\"never closed\nstill open"));
+
+        assertThatCode(reader::next).doesNotThrowAnyException();
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("line 2");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.Task;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskTransitionRequest;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.security.TokenVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not @Transactional: the second-level cache only sees committed writes
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class EntityCacheTest {
+
+    @Autowired TaskService taskService;
+    @Autowired TaskBatchService taskBatchService;
+    @Autowired TokenVersionService tokenVersionService;
+    @Autowired TaskRepository taskRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User owner;
+    private Task task;
+    private Task other;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("Cached").email("cached@example.com").password("hashed").build());
+        task = taskRepository.save(Task.builder().title("Hot task").owner(owner).build());
+        other = taskRepository.save(Task.builder().title("Other task").owner(owner).build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        taskRepository.findById(task.getId());
+        taskRepository.findById(other.getId());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Repeat task loads are served from memory")
+    void shouldServeRepeatReadsFromCache() {
+        taskRepository.findById(task.getId());
+        taskRepository.findById(task.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("An update evicts only the written task")
+    void shouldEvictOnlyUpdatedTask() {
+        taskService.update(task.getId(), new TaskRequest("Renamed", null, null, null, null), owner.getId());
+        statistics.clear();
+
+        assertThat(taskRepository.findById(other.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getTitle).isEqualTo("Renamed");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A bulk transition evicts only the transitioned tasks")
+    void shouldEvictOnlyTransitionedTasks() {
+        taskBatchService.transition(
+                new TaskTransitionRequest(List.of(task.getId()), null, TaskStatus.DONE, null), owner.getId());
+        statistics.clear();
+
+        assertThat(taskRepository.findById(other.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.DONE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Revoking a user's tokens evicts only that user")
+    void shouldEvictOnlyRevokedUser() {
+        User bystander = userRepository.save(User.builder()
+                .name("Bystander").email("bystander@example.com").password("hashed").build());
+        userRepository.findById(owner.getId());
+        userRepository.findById(bystander.getId());
+
+        tokenVersionService.revokeAll(owner.getId());
+        statistics.clear();
+
+        assertThat(userRepository.findById(bystander.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThat(userRepository.findById(owner.getId())).get()
+                .extracting(User::getTokenVersion).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A delete evicts the cached task and keeps the others")
+    void shouldEvictOnDelete() {
+        taskService.delete(task.getId(), owner.getId());
+        statistics.clear();
+
+        assertThat(taskRepository.findById(task.getId())).isEmpty();
+        assertThat(taskRepository.findById(other.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThatThrownBy(() -> taskService.findById(task.getId(), owner.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -1,30 +1,33 @@
 package com.example.taskmanager.service;
 
 import com.example.taskmanager.security.JwtService;
+import com.example.taskmanager.security.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class JwtServiceTest {
 
+    private static final String SECRET =
+            "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
     private JwtService jwtService;
     private UserDetails userDetails;
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secretKey",
-                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
-        ReflectionTestUtils.setField(jwtService, "expiration", 86400000L);
+        jwtService = new JwtService(SECRET, 86400000L);
 
-        userDetails = new User("test@example.com", "hashed", List.of());
+        userDetails = new User("test@example.com", "hashed",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
     }
 
     @Test
@@ -55,4 +58,35 @@ class JwtServiceTest {
         UserDetails other = new User("other@example.com", "hashed", List.of());
         assertThat(jwtService.isTokenValid(token, other)).isFalse();
     }
+
+    @Test
+    @DisplayName("Should verify token once and expose subject, expiry and roles")
+    void shouldVerifyToken() {
+        String token = jwtService.generateToken(userDetails);
+
+        VerifiedToken verified = jwtService.verify(token).orElseThrow();
+        assertThat(verified.subject()).isEqualTo("test@example.com");
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+        assertThat(verified.roles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Should reject tampered token")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThat(jwtService.verify(tampered)).isEmpty();
+        assertThat(jwtService.verify("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void shouldRejectExpiredToken() {
+        JwtService expiredIssuer = new JwtService(SECRET, -60000L);
+        String token = expiredIssuer.generateToken(userDetails);
+
+        assertThat(jwtService.verify(token)).isEmpty();
+        assertThat(jwtService.isTokenValid(token, userDetails)).isFalse();
+    }
 }
\ No newline at end of file
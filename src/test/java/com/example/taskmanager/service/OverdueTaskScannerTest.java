@@ -0,0 +1,119 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.*;
+import com.example.taskmanager.repository.ScanCheckpointRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OverdueTaskScannerTest {
+
+    @Autowired TaskRepository taskRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired ScanCheckpointRepository checkpointRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final List<Long> notified = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalDateTime now = LocalDateTime.now();
+    private User owner;
+    private User otherOwner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().email("scan@example.com").name("Scan").password("x").build());
+        otherOwner = userRepository.save(User.builder().email("scan2@example.com").name("Scan 2").password("x").build());
+        checkpointRepository.save(ScanCheckpoint.startingAt(OverdueTaskScanner.CHECKPOINT, now.minusDays(10)));
+    }
+
+    @Test
+    @DisplayName("Should notify each newly overdue open task once, across owners, in due-date order")
+    void shouldNotifyNewlyOverdueTasksOnce() {
+        Task older = save(owner, TaskStatus.TODO, now.minusDays(3));
+        Task newer = save(otherOwner, TaskStatus.IN_PROGRESS, now.minusDays(1));
+        save(owner, TaskStatus.DONE, now.minusDays(2));
+        save(owner, TaskStatus.TODO, now.plusDays(1));
+        save(owner, TaskStatus.TODO, now.minusDays(20));
+        OverdueTaskScanner scanner = scanner(2, task -> notified.add(task.id()));
+
+        assertThat(scanner.scan()).isEqualTo(2);
+        assertThat(notified).containsExactlyInAnyOrder(older.getId(), newer.getId());
+
+        assertThat(scanner.scan()).isZero();
+        assertThat(checkpointRepository.findById(OverdueTaskScanner.CHECKPOINT).orElseThrow().getLastTaskId())
+                .isEqualTo(newer.getId());
+        assertThat(meterRegistry.get("tasks.overdue.scan.lag.seconds").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should walk a backlog in chunks and advance past failing tasks")
+    void shouldProcessBacklogInChunks() {
+        for (int i = 5; i >= 1; i--) {
+            save(owner, TaskStatus.TODO, now.minusHours(i));
+        }
+        OverdueTaskScanner scanner = scanner(2, task -> {
+            if (task.dueDate().isBefore(now.minusMinutes(270))) {
+                throw new IllegalStateException("notification channel down");
+            }
+            notified.add(task.id());
+        });
+
+        assertThat(scanner.scan()).isEqualTo(5);
+        assertThat(notified).hasSize(4);
+        assertThat(meterRegistry.get("tasks.overdue.scan.processed").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("tasks.overdue.scan.failed").counter().count()).isEqualTo(1);
+        assertThat(scanner.scan()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should notify listeners with no transaction open and advance the mark afterwards")
+    void shouldNotifyOutsideTransactions() {
+        Task overdue = save(owner, TaskStatus.TODO, now.minusHours(1));
+        List<Boolean> inTransaction = new CopyOnWriteArrayList<>();
+        OverdueTaskScanner scanner = scanner(10, task -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            notified.add(task.id());
+        });
+
+        try {
+            assertThat(scanner.scan()).isEqualTo(1);
+            assertThat(inTransaction).containsExactly(false);
+            assertThat(checkpointRepository.findById(OverdueTaskScanner.CHECKPOINT).orElseThrow().getLastTaskId())
+                    .isEqualTo(overdue.getId());
+        } finally {
+            checkpointRepository.deleteAll();
+            taskRepository.deleteAll();
+            userRepository.deleteAll(List.of(owner, otherOwner));
+        }
+    }
+
+    private OverdueTaskScanner scanner(int chunkSize, OverdueTaskListener listener) {
+        return new OverdueTaskScanner(taskRepository, checkpointRepository, List.of(listener),
+                transactionManager, meterRegistry, chunkSize, 4);
+    }
+
+    private Task save(User taskOwner, TaskStatus status, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder().title("Due " + dueDate).status(status)
+                .dueDate(dueDate.truncatedTo(ChronoUnit.MICROS)).owner(taskOwner).build());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.TaskPriority;
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.dto.TaskTransitionRequest;
+import com.example.taskmanager.dto.TaskTransitionResponse;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskWriteRepository;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock TaskRepository taskRepository;
+    @Mock TaskWriteRepository taskWriteRepository;
+    @Mock UserRepository userRepository;
+    @Mock TaskListVersionService taskListVersionService;
+    @Mock EntityManager entityManager;
+
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    void setUp() {
+        taskBatchService = new TaskBatchService(taskRepository, taskWriteRepository, userRepository,
+                taskListVersionService, Validation.buildDefaultValidatorFactory().getValidator(), entityManager, 3);
+    }
+
+    @Test
+    @DisplayName("Should lock the selected ids and update them in one statement")
+    void shouldTransitionByIds() {
+        when(taskRepository.lockTransitionableByIds(1L, Set.of(1L, 2L), TaskStatus.DONE, null))
+                .thenReturn(List.of(1L, 2L));
+        when(taskWriteRepository.transitionByIds(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), isNull(), any()))
+                .thenReturn(2);
+
+        TaskTransitionResponse response = taskBatchService.transition(
+                new TaskTransitionRequest(List.of(1L, 2L, 2L), null, TaskStatus.DONE, null), 1L);
+
+        assertThat(response.updated()).isEqualTo(2);
+        assertThat(response.ids()).containsExactly(1L, 2L);
+        verify(taskListVersionService).changed(1L);
+    }
+
+    @Test
+    @DisplayName("Should select by current status up to one more than the batch limit")
+    void shouldTransitionByStatus() {
+        when(taskRepository.lockTransitionableByStatus(1L, TaskStatus.TODO, null, TaskPriority.HIGH, Limit.of(4)))
+                .thenReturn(List.of(5L));
+        when(taskWriteRepository.transitionByIds(eq(List.of(5L)), isNull(), eq(TaskPriority.HIGH), any()))
+                .thenReturn(1);
+
+        TaskTransitionResponse response = taskBatchService.transition(
+                new TaskTransitionRequest(null, TaskStatus.TODO, null, TaskPriority.HIGH), 1L);
+
+        assertThat(response.updated()).isEqualTo(1);
+        verify(taskListVersionService).changed(1L);
+    }
+
+    @Test
+    @DisplayName("Should not write or bump the list version when nothing matches")
+    void shouldSkipWhenNothingMatches() {
+        when(taskRepository.lockTransitionableByStatus(1L, TaskStatus.TODO, TaskStatus.DONE, null, Limit.of(4)))
+                .thenReturn(List.of());
+
+        TaskTransitionResponse response = taskBatchService.transition(
+                new TaskTransitionRequest(null, TaskStatus.TODO, TaskStatus.DONE, null), 1L);
+
+        assertThat(response.updated()).isZero();
+        verify(taskWriteRepository, never()).transitionByIds(anyCollection(), any(), any(), any());
+        verifyNoInteractions(taskListVersionService);
+    }
+
+    @Test
+    @DisplayName("Should reject a status selection matching more tasks than the batch limit")
+    void shouldRejectTooManyMatches() {
+        when(taskRepository.lockTransitionableByStatus(1L, TaskStatus.TODO, TaskStatus.DONE, null, Limit.of(4)))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        assertThatThrownBy(() -> taskBatchService.transition(
+                new TaskTransitionRequest(null, TaskStatus.TODO, TaskStatus.DONE, null), 1L))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(taskWriteRepository, never()).transitionByIds(anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject null ids, a missing target, an ambiguous selection and oversized id lists")
+    void shouldRejectInvalidRequests() {
+        List<TaskTransitionRequest> invalid = List.of(
+                new TaskTransitionRequest(Arrays.asList(1L, null), null, TaskStatus.DONE, null),
+                new TaskTransitionRequest(List.of(1L), null, null, null),
+                new TaskTransitionRequest(List.of(1L), TaskStatus.TODO, TaskStatus.DONE, null),
+                new TaskTransitionRequest(null, null, TaskStatus.DONE, null),
+                new TaskTransitionRequest(List.of(1L, 2L, 3L, 4L), null, TaskStatus.DONE, null));
+
+        for (TaskTransitionRequest request : invalid) {
+            assertThatThrownBy(() -> taskBatchService.transition(request, 1L))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+        verifyNoInteractions(taskRepository, taskWriteRepository, taskListVersionService);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.domain.TaskStatus;
+import com.example.taskmanager.domain.User;
+import com.example.taskmanager.dto.ImportReport;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.repository.AbstractPostgresTest;
+import com.example.taskmanager.repository.TaskListVersionRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskImportServiceTest extends AbstractPostgresTest {
+
+    @Autowired DataSource dataSource;
+    @Autowired UserRepository userRepository;
+    @Autowired TaskRepository taskRepository;
+    @Autowired TaskListVersionRepository taskListVersionRepository;
+
+    private TaskImportService importService;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TaskImportService(dataSource, userRepository,
+                new TaskListVersionService(taskListVersionRepository),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build());
+
+        owner = userRepository.save(User.builder()
+                .email("importer@example.com").name("Importer").password("hashed").build());
+    }
+
+    @Test
+    @DisplayName("Should COPY valid NDJSON rows and report rejected ones")
+    void shouldImportNdjson() {
+        ImportReport report = importService.importNdjson(owner.getId(), body("""
+                {"title":"First","status":"DONE"}
+                {"title":""}
+
+                {"title":"Second","description":"multi\\nline, with comma","dueDate":"2026-03-01T09:00:00"}
+                not json
+                """));
+
+        assertThat(report.importedRows()).isEqualTo(2);
+        assertThat(report.rejectedRows()).isEqualTo(2);
+        assertThat(report.rejections()).extracting(ImportReport.Rejection::line).containsExactly(2L, 5L);
+        assertThat(taskRepository.countByOwnerIdAndStatus(owner.getId(), TaskStatus.DONE)).isEqualTo(1);
+        assertThat(taskRepository.countByOwnerIdAndStatus(owner.getId(), TaskStatus.TODO)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should COPY valid CSV rows and report rejected ones")
+    void shouldImportCsv() {
+        ImportReport report = importService.importCsv(owner.getId(), body("""
+                title,description,status,priority,dueDate
+                "Quoted, title","Line one
+                line two",IN_PROGRESS,HIGH,
+                ,missing title,,,
+                Bad status,,NOPE,,
+                """));
+
+        assertThat(report.importedRows()).isEqualTo(1);
+        assertThat(report.rejectedRows()).isEqualTo(2);
+        assertThat(taskRepository.countByOwnerIdAndStatus(owner.getId(), TaskStatus.IN_PROGRESS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed CSV with 400 and import nothing")
+    void shouldRejectUnterminatedQuote() {
+        assertThatThrownBy(() -> importService.importCsv(owner.getId(), body("""
+                title,description
+                Fine,
+                "Never closed,oops
+                """)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("line 3");
+
+        assertThat(taskRepository.countByOwnerIdAndStatus(owner.getId(), TaskStatus.TODO)).isZero();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,20 +1,36 @@
 package com.example.taskmanager.service;
 
 import com.example.taskmanager.domain.*;
+import com.example.taskmanager.dto.CountMode;
+import com.example.taskmanager.dto.SearchCursor;
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.exception.InvalidRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.exception.UnauthorizedAccessException;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskSearchHit;
+import com.example.taskmanager.repository.TaskSearchRepository;
+import com.example.taskmanager.repository.TaskStamp;
+import com.example.taskmanager.repository.TaskStatsRepository;
+import com.example.taskmanager.repository.TaskWriteRepository;
 import com.example.taskmanager.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +44,12 @@ class TaskServiceTest {
 
     @Mock TaskRepository taskRepository;
     @Mock UserRepository userRepository;
+    @Mock TaskListVersionService taskListVersionService;
+    @Mock TaskSearchRepository taskSearchRepository;
+    @Mock TaskStatsRepository taskStatsRepository;
+    @Mock TaskWriteRepository taskWriteRepository;
+    @Spy JsonMapper jsonMapper = JsonMapper.builder().build();
+    @Spy Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks TaskService taskService;
 
@@ -67,7 +89,7 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should find task by id")
     void shouldFindById() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(TaskResponse.from(task)));
 
         TaskResponse response = taskService.findById(1L, 1L);
         assertThat(response.id()).isEqualTo(1L);
@@ -76,7 +98,7 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should throw when task not found")
     void shouldThrowWhenTaskNotFound() {
-        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.findById(99L, 1L))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -85,41 +107,237 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should throw when user does not own task")
     void shouldThrowOnUnauthorizedAccess() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(TaskResponse.from(task)));
 
         assertThatThrownBy(() -> taskService.findById(1L, 99L))
                 .isInstanceOf(UnauthorizedAccessException.class);
     }
 
+    @Test
+    @DisplayName("Should not expose the stamp of a task owned by someone else")
+    void shouldThrowOnUnauthorizedStampLookup() {
+        when(taskRepository.findStampById(1L)).thenReturn(Optional.of(new TaskStamp(1L, 0, task.getUpdatedAt())));
+
+        assertThatThrownBy(() -> taskService.findStamp(1L, 99L))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verify(taskRepository, never()).findResponseById(any());
+    }
+
     @Test
     @DisplayName("Should update task")
     void shouldUpdateTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any())).thenReturn(task);
+        when(taskWriteRepository.updateByIdAndOwnerId(eq(1L), eq(1L), eq("Updated"), isNull(),
+                eq(TaskStatus.IN_PROGRESS), isNull(), isNull(), any(), isNull()))
+                .thenReturn(Optional.of(TaskResponse.from(task)));
 
         TaskRequest request = new TaskRequest("Updated", null, TaskStatus.IN_PROGRESS, null, null);
         TaskResponse response = taskService.update(1L, request, 1L);
 
         assertThat(response).isNotNull();
-        verify(taskRepository).save(task);
+        verifyNoInteractions(taskRepository);
+        verify(taskListVersionService).changed(1L);
+    }
+
+    @Test
+    @DisplayName("Should throw when updating a task owned by someone else")
+    void shouldThrowOnUnauthorizedUpdate() {
+        when(taskWriteRepository.updateByIdAndOwnerId(eq(1L), eq(99L), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findStampById(1L)).thenReturn(Optional.of(new TaskStamp(1L, 0, task.getUpdatedAt())));
+
+        TaskRequest request = new TaskRequest("Updated", null, null, null, null);
+        assertThatThrownBy(() -> taskService.update(1L, request, 99L))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an update guarded by a stale version")
+    void shouldRejectStaleVersion() {
+        when(taskWriteRepository.updateByIdAndOwnerId(eq(1L), eq(1L), any(), any(), any(), any(), any(), any(), eq(3L)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findStampById(1L)).thenReturn(Optional.of(new TaskStamp(1L, 4, task.getUpdatedAt())));
+
+        TaskRequest request = new TaskRequest("Updated", null, null, null, null);
+        assertThatThrownBy(() -> taskService.update(1L, request, 1L, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskListVersionService, never()).changed(any());
+    }
+
+    @Test
+    @DisplayName("Should patch only the supplied fields")
+    void shouldPatchSuppliedFields() {
+        task.setDescription("Keep me");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        ObjectNode patch = jsonMapper.createObjectNode().put("status", "DONE");
+        TaskResponse response = taskService.patch(1L, patch, 1L, null);
+
+        assertThat(response.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(response.title()).isEqualTo("Test Task");
+        assertThat(response.description()).isEqualTo("Keep me");
+        verify(taskRepository).flush();
+        verify(taskListVersionService).changed(1L);
+    }
+
+    @Test
+    @DisplayName("Should skip the write when a patch changes nothing")
+    void shouldSkipNoOpPatch() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        taskService.patch(1L, jsonMapper.createObjectNode().put("title", "Test Task"), 1L, null);
+
+        verify(taskRepository, never()).flush();
+        verify(taskListVersionService, never()).changed(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that removes a required field")
+    void shouldRejectPatchRemovingStatus() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        ObjectNode patch = jsonMapper.createObjectNode().putNull("status");
+        assertThatThrownBy(() -> taskService.patch(1L, patch, 1L, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch guarded by a stale version")
+    void shouldRejectStalePatch() {
+        task.setVersion(2);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        ObjectNode patch = jsonMapper.createObjectNode().put("status", "DONE");
+        assertThatThrownBy(() -> taskService.patch(1L, patch, 1L, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO);
+    }
+
+    @Test
+    @DisplayName("Should page search hits with a rank/id cursor")
+    void shouldPageSearchHits() {
+        TaskResponse first = TaskResponse.from(task);
+        TaskResponse second = new TaskResponse(2L, "Other", null, TaskStatus.TODO, TaskPriority.MEDIUM,
+                null, task.getCreatedAt(), task.getUpdatedAt(), 0, 1L);
+        when(taskSearchRepository.searchBefore(1L, "test", Float.MAX_VALUE, Long.MAX_VALUE, 2))
+                .thenReturn(List.of(new TaskSearchHit(first, 0.6f), new TaskSearchHit(second, 0.3f)));
+
+        var page = taskService.search(1L, "test", null, 1);
+
+        assertThat(page.content()).containsExactly(first);
+        assertThat(SearchCursor.decode(page.next())).isEqualTo(new SearchCursor(0.6f, 1L));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank search query")
+    void shouldRejectBlankSearch() {
+        assertThatThrownBy(() -> taskService.search(1L, " ", null, 10))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(taskSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor pages that are empty or larger than the maximum")
+    void shouldRejectInvalidCursorPageSize() {
+        assertThatThrownBy(() -> taskService.search(1L, "test", null, 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> taskService.findByOwnerAfter(1L, null, null, -1))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> taskService.findByOwnerAfter(1L, null, null, TaskService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(taskSearchRepository, taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative page index")
+    void shouldRejectNegativePage() {
+        assertThatThrownBy(() -> taskService.findByOwner(1L, TaskFilter.NONE, -1, 20, CountMode.EXACT))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     @DisplayName("Should delete task")
     void shouldDeleteTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskWriteRepository.deleteByIdAndOwnerId(1L, 1L)).thenReturn(1);
 
         taskService.delete(1L, 1L);
-        verify(taskRepository).delete(task);
+        verify(taskWriteRepository).deleteByIdAndOwnerId(1L, 1L);
+        verify(taskListVersionService).changed(1L);
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should not delete a task owned by someone else")
+    void shouldThrowOnUnauthorizedDelete() {
+        when(taskWriteRepository.deleteByIdAndOwnerId(1L, 99L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> taskService.delete(1L, 99L))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verify(taskListVersionService, never()).changed(any());
+    }
+
+    @Test
+    @DisplayName("Should throw not found when deleting a missing task")
+    void shouldThrowWhenDeletingMissingTask() {
+        when(taskWriteRepository.deleteByIdAndOwnerId(99L, 1L)).thenReturn(0);
+        when(taskRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> taskService.delete(99L, 1L))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
     @DisplayName("Should return paged tasks by owner")
     void shouldReturnPagedTasks() {
-        Page<Task> pageResult = new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1);
-        when(taskRepository.findByOwnerIdWithFilters(eq(1L), isNull(), any())).thenReturn(pageResult);
+        Page<TaskResponse> pageResult = new PageImpl<>(List.of(TaskResponse.from(task)), PageRequest.of(0, 10), 1);
+        when(taskRepository.findBy(anySpecification(), any())).thenReturn(pageResult);
+
+        var response = taskService.findByOwner(1L, TaskFilter.NONE, 0, 10, CountMode.EXACT);
+        assertThat(response.totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the count query when counting is disabled")
+    void shouldReturnSliceWithoutCount() {
+        Slice<TaskResponse> sliceResult = new SliceImpl<>(List.of(TaskResponse.from(task)), PageRequest.of(0, 10), false);
+        when(taskRepository.findBy(anySpecification(), any())).thenReturn(sliceResult);
 
-        var response = taskService.findByOwner(1L, null, 0, 10);
+        var response = taskService.findByOwner(1L, TaskFilter.NONE, 0, 10, CountMode.NONE);
+        assertThat(response.totalElements()).isNull();
+        assertThat(response.last()).isTrue();
+        verify(taskRepository, never()).findAll(anySpecification(), any(Pageable.class));
+        verify(taskRepository, never()).count(anySpecification());
+    }
+
+    @Test
+    @DisplayName("Should use the stats counters for estimated totals")
+    void shouldReturnSliceWithEstimatedCount() {
+        Slice<TaskResponse> sliceResult = new SliceImpl<>(List.of(TaskResponse.from(task)), PageRequest.of(0, 10), true);
+        when(taskRepository.findBy(anySpecification(), any())).thenReturn(sliceResult);
+        when(taskStatsRepository.sumTotal(1L, TaskStatus.TODO)).thenReturn(25L);
+
+        var response = taskService.findByOwner(1L, TaskFilter.byStatus(TaskStatus.TODO), 0, 10, CountMode.ESTIMATE);
+        assertThat(response.totalElements()).isEqualTo(25);
+        assertThat(response.totalPages()).isEqualTo(3);
+        assertThat(response.last()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count filters the stats counters do not cover exactly")
+    void shouldCountUncachedFilters() {
+        Slice<TaskResponse> sliceResult = new SliceImpl<>(List.of(TaskResponse.from(task)), PageRequest.of(0, 10), false);
+        when(taskRepository.findBy(anySpecification(), any())).thenReturn(sliceResult);
+        when(taskRepository.count(anySpecification())).thenReturn(1L);
+
+        var filter = new TaskFilter(null, TaskPriority.MEDIUM, null, null, false);
+        var response = taskService.findByOwner(1L, filter, 0, 10, CountMode.ESTIMATE);
         assertThat(response.totalElements()).isEqualTo(1);
+        verifyNoInteractions(taskStatsRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Specification<Task> anySpecification() {
+        return any(Specification.class);
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.repository.UserWriteRepository;
+import com.example.taskmanager.security.TokenVersionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceTest {
+
+    @Mock UserRepository userRepository;
+    @Mock UserWriteRepository userWriteRepository;
+
+    @Test
+    @DisplayName("Should accept current token version and cache the lookup")
+    void shouldAcceptCurrentVersion() {
+        TokenVersionService service =
+                new TokenVersionService(userRepository, userWriteRepository, Duration.ofMinutes(1), 100);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0));
+
+        assertThat(service.isCurrent(1L, 0)).isTrue();
+        assertThat(service.isCurrent(1L, 0)).isTrue();
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens after revocation")
+    void shouldRejectRevokedVersion() {
+        TokenVersionService service =
+                new TokenVersionService(userRepository, userWriteRepository, Duration.ofMinutes(1), 100);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0)).thenReturn(Optional.of(1));
+
+        assertThat(service.isCurrent(1L, 0)).isTrue();
+        service.revokeAll(1L);
+
+        verify(userWriteRepository).incrementTokenVersion(1L);
+        assertThat(service.isCurrent(1L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens of deleted users")
+    void shouldRejectUnknownUser() {
+        TokenVersionService service =
+                new TokenVersionService(userRepository, userWriteRepository, Duration.ZERO, 100);
+        when(userRepository.findTokenVersionById(99L)).thenReturn(Optional.empty());
+
+        assertThat(service.isCurrent(99L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the cached version until the revoking transaction commits")
+    void shouldEvictAfterCommit() {
+        TokenVersionService service =
+                new TokenVersionService(userRepository, userWriteRepository, Duration.ofMinutes(1), 100);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0)).thenReturn(Optional.of(1));
+        assertThat(service.isCurrent(1L, 0)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.revokeAll(1L);
+            assertThat(service.isCurrent(1L, 0)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(service.isCurrent(1L, 0)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.BatchUserResponse;
+import com.example.taskmanager.dto.UserProvisionRequest;
+import com.example.taskmanager.exception.EmailAlreadyExistsException;
+import com.example.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock UserRepository userRepository;
+    @Mock PasswordEncoder passwordEncoder;
+    @Mock EntityManager entityManager;
+    @Mock PlatformTransactionManager transactionManager;
+
+    private UserProvisioningService provisioningService;
+
+    @BeforeEach
+    void setUp() {
+        provisioningService = new UserProvisioningService(userRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, transactionManager, 10, 2);
+    }
+
+    @Test
+    @DisplayName("Should hash only new, valid users and do so before opening the transaction")
+    void shouldHashOnlyNewUsersOutsideTransaction() {
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("taken@example.com"));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchUserResponse response = provisioningService.provisionAll(List.of(
+                request("new@example.com"),
+                request("taken@example.com"),
+                request("new@example.com"),
+                request("not-an-email")));
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.results().get(0).user().email()).isEqualTo("new@example.com");
+        assertThat(response.results().get(1).errors()).containsExactly("email: already registered");
+        assertThat(response.results().get(2).errors()).containsExactly("email: duplicated within the batch");
+
+        InOrder order = inOrder(passwordEncoder, transactionManager, userRepository);
+        order.verify(userRepository).findExistingEmails(anyCollection());
+        order.verify(passwordEncoder).encode("password123");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(userRepository).saveAll(anyList());
+        order.verify(transactionManager).commit(any());
+        verify(passwordEncoder, times(1)).encode(any());
+    }
+
+    @Test
+    @DisplayName("Should fail the batch with 409 when a signup takes an email concurrently")
+    void shouldMapConcurrentSignup() {
+        when(passwordEncoder.encode(any())).thenReturn("hashed");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        ConstraintViolationException.ConstraintKind.UNIQUE, "users_email_key")))
+                .when(userRepository).flush();
+
+        assertThatThrownBy(() -> provisioningService.provisionAll(List.of(request("racer@example.com"))))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        verify(transactionManager).rollback(any());
+    }
+
+    private static UserProvisionRequest request(String email) {
+        return new UserProvisionRequest("User", email, "password123", null);
+    }
+}
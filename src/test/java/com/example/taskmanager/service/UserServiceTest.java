@@ -13,8 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,9 +42,8 @@ class UserServiceTest {
     @Test
     @DisplayName("Should create user successfully")
     void shouldCreateUser() {
-        when(userRepository.existsByEmail(any())).thenReturn(false);
         when(passwordEncoder.encode(any())).thenReturn("hashed");
-        when(userRepository.save(any())).thenReturn(user);
+        when(userRepository.saveAndFlush(any())).thenReturn(user);
 
         UserRequest request = new UserRequest("Test", "test@example.com", "password123");
         UserResponse response = userService.create(request);
@@ -52,7 +54,9 @@ class UserServiceTest {
     @Test
     @DisplayName("Should throw when email already exists")
     void shouldThrowOnDuplicateEmail() {
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        ConstraintViolationException.ConstraintKind.UNIQUE, "users_email_key")));
 
         UserRequest request = new UserRequest("Test", "test@example.com", "password123");
         assertThatThrownBy(() -> userService.create(request))
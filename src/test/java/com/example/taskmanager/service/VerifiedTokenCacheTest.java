@@ -0,0 +1,57 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.security.AuthenticatedUser;
+import com.example.taskmanager.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(5));
+        principal = new AuthenticatedUser(1L, "test@example.com", null, List.of(), 0, null);
+    }
+
+    @Test
+    @DisplayName("Should return cached principal and record hits and misses")
+    void shouldCachePrincipal() {
+        assertThat(cache.get("token")).isNull();
+
+        cache.put("token", principal, Instant.now().plusSeconds(60));
+        assertThat(cache.get("token")).isEqualTo(principal);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve tokens past their expiry")
+    void shouldNotServeExpiredTokens() {
+        cache.put("token", principal, Instant.now().minusSeconds(1));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop invalidated tokens")
+    void shouldInvalidate() {
+        cache.put("token", principal, Instant.now().plusSeconds(60));
+        cache.invalidate("token");
+        assertThat(cache.get("token")).isNull();
+    }
+}